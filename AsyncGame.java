@@ -0,0 +1,164 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Plays one match without ever blocking a thread while waiting for a move.
+ * Each turn asks the current player for a future move and continues when it
+ * completes, so thousands of matches can be in progress on a handful of threads.
+ * Players that only implement the synchronous selectMove are adapted by
+ * Player.selectMoveAsync.
+ * Demonstrates driving the same game rules with callbacks instead of a loop.
+ */
+public class AsyncGame {
+    private final Player player1;
+    private final Player player2;
+    private final GameRules rules;
+    private final Board board;
+    private Player currentPlayer;
+
+    /**
+     * Constructor for a match on the classic board
+     * @param player1 First player, who moves first
+     * @param player2 Second player
+     */
+    public AsyncGame(Player player1, Player player2) {
+        this(player1, player2, new TicTacToeRules());
+    }
+
+    /**
+     * Constructor for a match under specific rules
+     * @param player1 First player, who moves first
+     * @param player2 Second player
+     * @param rules The rules, which also decide the board size
+     */
+    public AsyncGame(Player player1, Player player2, GameRules rules) {
+        this.player1 = player1;
+        this.player2 = player2;
+        this.rules = rules;
+        this.board = rules.createBoard();
+    }
+
+    /**
+     * Starts a new match on a cleared board
+     * @return A future holding the winning symbol, or ' ' for a draw; it completes
+     *         exceptionally if a player fails or plays an illegal move
+     */
+    public CompletableFuture<Character> play() {
+        board.reset();
+        currentPlayer = player1;
+        CompletableFuture<Character> result = new CompletableFuture<>();
+        nextTurns(result);
+        return result;
+    }
+
+    /**
+     * Plays turns until one is still pending or the game ends.
+     * Moves that are already available are applied in this loop rather than
+     * through nested callbacks, so long games do not grow the stack.
+     */
+    private void nextTurns(CompletableFuture<Character> result) {
+        while (true) {
+            CompletableFuture<Integer> pending;
+            try {
+                pending = currentPlayer.selectMoveAsync(board);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (!pending.isDone()) {
+                pending.whenComplete((cell, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else if (applyMove(cell, result)) {
+                        nextTurns(result);
+                    }
+                });
+                return;
+            }
+            Integer cell;
+            try {
+                cell = pending.join();
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            if (!applyMove(cell, result)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Applies a move and completes the result if it ended the game
+     * @return true if the game continues
+     */
+    private boolean applyMove(Integer move, CompletableFuture<Character> result) {
+        if (move == null) {
+            result.completeExceptionally(new IllegalStateException(
+                    currentPlayer.getName() + " completed its move without a cell"));
+            return false;
+        }
+        int cell = move;
+        int row = cell / board.getSize();
+        int col = cell % board.getSize();
+        if (cell < 0 || !rules.isValidMove(board, row, col)) {
+            result.completeExceptionally(new IllegalStateException(
+                    currentPlayer.getName() + " played an illegal move: " + cell));
+            return false;
+        }
+        board.makeMove(cell, currentPlayer.getSymbol());
+
+        char winner = rules.checkWinner(board, row, col);
+        if (winner != ' ') {
+            result.complete(winner);
+            return false;
+        }
+        if (rules.isDraw(board, row, col)) {
+            result.complete(' ');
+            return false;
+        }
+        currentPlayer = (currentPlayer == player1) ? player2 : player1;
+        return true;
+    }
+
+    /**
+     * Runs many concurrent matches between two random bots that each take
+     * 10 ms to "think" per move, then reports throughput and thread usage
+     * @param args Optional number of concurrent matches (default 10000)
+     */
+    public static void main(String[] args) {
+        int matches = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000;
+        AtomicInteger draws = new AtomicInteger();
+        List<CompletableFuture<Character>> results = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < matches; i++) {
+            results.add(new AsyncGame(slowBot("Bot 1", 'X'), slowBot("Bot 2", 'O')).play()
+                    .whenComplete((winner, error) -> {
+                        if (winner != null && winner == ' ') {
+                            draws.incrementAndGet();
+                        }
+                    }));
+        }
+        int threadsWhileRunning = Thread.activeCount();
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).join();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%d concurrent matches finished in %.2f s (%.0f matches/s), %d draws%n",
+                matches, seconds, matches / seconds, draws.get());
+        System.out.println("Live threads while matches were running: " + threadsWhileRunning);
+    }
+
+    /**
+     * Creates a silent random bot paced at 10 ms a move; the pacing delay is
+     * scheduled, so no thread is held while it "thinks"
+     */
+    private static Player slowBot(String name, char symbol) {
+        ComputerPlayer bot = new ComputerPlayer(name, symbol);
+        bot.makeHeadless();
+        bot.setPacing(MovePacing.fixed(10));
+        return bot;
+    }
+}
@@ -0,0 +1,181 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Micro-benchmarks for the hot paths: rule checks, bot move selection and whole games.
+ * Each benchmark is warmed up, then timed over several fixed-length iterations.
+ * Reports time per operation and bytes allocated per operation, so allocation
+ * regressions in the hot path show up next to latency.
+ * smart.selectMoveColdTable includes emptying the 16 KB search cache on every call.
+ * Run with: java Benchmarks [name-filter]
+ * This harness needs no build; for forked runs with a Blackhole use the JMH
+ * benchmarks in jmh/ (see pom.xml), which time the same operations.
+ * Demonstrates measuring code the same way every time so results can be compared.
+ */
+public class Benchmarks {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 5;
+    private static final long ITERATION_NANOS = 300_000_000L;
+    static final int BOARD_COUNT = 1024;
+
+    /**
+     * One benchmarked operation. The returned value is consumed so the JIT
+     * cannot remove the work.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        long run(int index);
+    }
+
+    private static final class Case {
+        final String name;
+        final Operation operation;
+
+        Case(String name, Operation operation) {
+            this.name = name;
+            this.operation = operation;
+        }
+    }
+
+    private static volatile long sink;
+
+    public static void main(String[] args) {
+        String filter = (args.length > 0) ? args[0] : "";
+        SplittableRandom random = new SplittableRandom(42);
+        GameRules rules = new TicTacToeRules();
+        int[] lastMoves = new int[BOARD_COUNT];
+        Board[] boards = midGameBoards(rules, random, lastMoves);
+
+        SmartComputerPlayer smart = new SmartComputerPlayer("Smart Bot", 'X', null, random.split());
+        ComputerPlayer easy = new ComputerPlayer("Computer", 'O', random.split());
+        smart.makeHeadless();
+        easy.makeHeadless();
+        MatchRunner headlessMatch = headlessRunner(random);
+        PositionEvaluator evaluator = new PositionEvaluator(rules);
+        int[] codes = new int[BOARD_COUNT];
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            codes[i] = PositionCode.encode(boards[i]);
+        }
+
+        List<Case> cases = new ArrayList<>();
+        cases.add(new Case("rules.checkWinner", i -> rules.checkWinner(boards[i & (BOARD_COUNT - 1)])));
+        cases.add(new Case("rules.checkWinnerLastMove", i -> {
+            int b = i & (BOARD_COUNT - 1);
+            return rules.checkWinner(boards[b], lastMoves[b] / Board.SIZE, lastMoves[b] % Board.SIZE);
+        }));
+        cases.add(new Case("rules.isDraw", i -> rules.isDraw(boards[i & (BOARD_COUNT - 1)]) ? 1 : 0));
+        // The search cache is shared and warm after one pass, so empty it first to time a real search
+        cases.add(new Case("smart.selectMoveColdTable", i -> {
+            NegamaxEngine.clearTable();
+            return smart.selectMove(boards[i & (BOARD_COUNT - 1)]);
+        }));
+        cases.add(new Case("computer.selectMove", i -> easy.selectMove(boards[i & (BOARD_COUNT - 1)])));
+        cases.add(new Case("evaluator.evaluate", i -> evaluator.evaluate(codes[i & (BOARD_COUNT - 1)])));
+        cases.add(new Case("game.smartVsComputer", i -> headlessMatch.playGame()));
+
+        System.out.printf("%-28s %14s %12s %14s%n", "Benchmark", "ns/op", "+/-", "bytes/op");
+        for (Case c : cases) {
+            if (c.name.contains(filter)) {
+                measure(c);
+            }
+        }
+    }
+
+    static MatchRunner headlessRunner(SplittableRandom random) {
+        Player player1 = new SmartComputerPlayer("Smart Bot", 'X', null, random.split());
+        Player player2 = new ComputerPlayer("Computer", 'O', random.split());
+        player1.makeHeadless();
+        player2.makeHeadless();
+        return new MatchRunner(player1, player2);
+    }
+
+    /**
+     * Warms up and measures one case, then prints a result line
+     */
+    private static void measure(Case c) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runIteration(c.operation);
+        }
+        double[] nanosPerOp = new double[MEASURED_ITERATIONS];
+        double bytesPerOp = 0;
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long bytesBefore = allocatedBytes();
+            long[] result = runIteration(c.operation);
+            long bytes = allocatedBytes() - bytesBefore;
+            nanosPerOp[i] = (double) result[1] / result[0];
+            bytesPerOp += (double) bytes / result[0] / MEASURED_ITERATIONS;
+        }
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value / MEASURED_ITERATIONS;
+        }
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean) / MEASURED_ITERATIONS;
+        }
+        System.out.printf("%-28s %14.2f %12.2f %14.2f%n", c.name, mean, Math.sqrt(variance), bytesPerOp);
+    }
+
+    /**
+     * Runs an operation repeatedly for one iteration's worth of time
+     * @return {operation count, elapsed nanoseconds}
+     */
+    private static long[] runIteration(Operation operation) {
+        long ops = 0;
+        long result = 0;
+        long start = System.nanoTime();
+        long elapsed;
+        do {
+            for (int i = 0; i < 1024; i++) {
+                result += operation.run((int) ops + i);
+            }
+            ops += 1024;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < ITERATION_NANOS);
+        sink = result;
+        return new long[]{ops, elapsed};
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread, or 0 if the JVM cannot tell
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Builds boards from random play, stopped at a random point before the game ends
+     * @param lastMoves Receives the cell of the last move played on each board
+     */
+    static Board[] midGameBoards(GameRules rules, SplittableRandom random, int[] lastMoves) {
+        Board[] boards = new Board[BOARD_COUNT];
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            Board board = rules.createBoard();
+            int moves = 1 + random.nextInt(6);
+            char symbol = 'X';
+            for (int m = 0; m < moves; m++) {
+                int cell;
+                do {
+                    cell = random.nextInt(Board.CELLS);
+                } while (!board.isCellEmpty(cell / Board.SIZE, cell % Board.SIZE));
+                board.makeMove(cell / Board.SIZE, cell % Board.SIZE, symbol);
+                if (rules.checkWinner(board, cell / Board.SIZE, cell % Board.SIZE) != ' ') {
+                    board.makeMove(cell / Board.SIZE, cell % Board.SIZE, ' ');
+                    break;
+                }
+                lastMoves[i] = cell;
+                symbol = (symbol == 'X') ? 'O' : 'X';
+            }
+            boards[i] = board;
+        }
+        return boards;
+    }
+}
@@ -1 +1,475 @@
-dadadawdawdaw
\ No newline at end of file
+/**
+ * Represents an N x N board where K symbols in a row win.
+ * The classic game is 3x3 with 3 in a row; Gomoku-style variants such as
+ * 15x15 with 5 in a row use the same class.
+ * Each symbol is stored as a bitset of longs where bit (row * size + col)
+ * is set when that symbol occupies the cell.
+ * Demonstrates encapsulation - callers only see cells, never the bit layout.
+ */
+public class Board {
+    /** Side length of the classic board. */
+    public static final int SIZE = 3;
+    /** Number of cells on the classic board. */
+    public static final int CELLS = SIZE * SIZE;
+    /** Bitmask with every classic board cell set. */
+    public static final int FULL_MASK = (1 << CELLS) - 1;
+
+    /**
+     * The 8 winning lines of the classic board (3 rows, 3 columns, 2 diagonals)
+     * as cell bitmasks. A symbol has won when (bits & mask) == mask for any of these.
+     */
+    public static final int[] WIN_MASKS = {
+        0b000_000_111, 0b000_111_000, 0b111_000_000, // rows
+        0b001_001_001, 0b010_010_010, 0b100_100_100, // columns
+        0b100_010_001, 0b001_010_100                 // diagonals
+    };
+
+    /**
+     * For each classic board cell, the winning lines passing through it (2 to 4 masks).
+     * Lets a win check after a move look only at the lines that move touched.
+     */
+    public static final int[][] CELL_LINES = new int[CELLS][];
+
+    // Row and column steps for the four line directions: horizontal, vertical, both diagonals
+    private static final int[] DIRECTION_ROW = {0, 1, 1, 1};
+    private static final int[] DIRECTION_COL = {1, 0, 1, -1};
+
+    static {
+        for (int cell = 0; cell < CELLS; cell++) {
+            int count = 0;
+            for (int mask : WIN_MASKS) {
+                if ((mask & (1 << cell)) != 0) {
+                    count++;
+                }
+            }
+            CELL_LINES[cell] = new int[count];
+            count = 0;
+            for (int mask : WIN_MASKS) {
+                if ((mask & (1 << cell)) != 0) {
+                    CELL_LINES[cell][count++] = mask;
+                }
+            }
+        }
+    }
+
+    private final int size;
+    private final int winLength;
+    private final int cellCount;
+    private final boolean classic;
+    private final long[] xWords;
+    private final long[] oWords;
+    private int filledCount;
+
+    /**
+     * Constructor creates an empty classic 3x3 board
+     */
+    public Board() {
+        this(SIZE, SIZE);
+    }
+
+    /**
+     * Constructor creates an empty board of any size
+     * @param size Number of rows and columns
+     * @param winLength Number of symbols in a row needed to win
+     */
+    public Board(int size, int winLength) {
+        if (size < 1 || winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Invalid board: " + size + "x" + size + " with " + winLength + " in a row");
+        }
+        this.size = size;
+        this.winLength = winLength;
+        this.cellCount = size * size;
+        this.classic = (size == SIZE && winLength == SIZE);
+        this.xWords = new long[(cellCount + 63) >>> 6];
+        this.oWords = new long[xWords.length];
+        reset();
+    }
+
+    /**
+     * Clears all cells
+     */
+    public void reset() {
+        for (int i = 0; i < xWords.length; i++) {
+            xWords[i] = 0;
+            oWords[i] = 0;
+        }
+        filledCount = 0;
+    }
+
+    /**
+     * Makes this board an exact copy of another board of the same size,
+     * reusing this board's storage
+     * @param other The board to copy
+     */
+    public void copyFrom(Board other) {
+        if (other.size != size || other.winLength != winLength) {
+            throw new IllegalArgumentException("Cannot copy a " + other.size + "x" + other.size + " board into a "
+                    + size + "x" + size + " board");
+        }
+        System.arraycopy(other.xWords, 0, xWords, 0, xWords.length);
+        System.arraycopy(other.oWords, 0, oWords, 0, oWords.length);
+        filledCount = other.filledCount;
+    }
+
+    /**
+     * Makes this board hold a snapshot's position, reusing this board's storage
+     * @param snapshot A snapshot of a board of the same size
+     */
+    public void copyFrom(BoardSnapshot snapshot) {
+        if (snapshot.getSize() != size || snapshot.getWinLength() != winLength) {
+            throw new IllegalArgumentException("Cannot copy a " + snapshot.getSize() + "x" + snapshot.getSize()
+                    + " snapshot into a " + size + "x" + size + " board");
+        }
+        for (int i = 0; i < xWords.length; i++) {
+            xWords[i] = snapshot.xWord(i);
+            oWords[i] = snapshot.oWord(i);
+        }
+        filledCount = snapshot.getFilledCount();
+    }
+
+    /**
+     * Takes an immutable copy of the current position that other threads can
+     * read while this board keeps changing
+     * @return The snapshot
+     */
+    public BoardSnapshot snapshot() {
+        return BoardSnapshot.of(size, winLength, xWords, oWords, filledCount);
+    }
+
+    /**
+     * Prints the board to the console
+     */
+    public void display() {
+        StringBuilder out = new StringBuilder();
+        appendTo(out);
+        System.out.println(out);
+    }
+
+    /**
+     * Appends the board as text: a blank line, a header line with column
+     * numbers, then each row followed by a separator line (none after the last)
+     * @param out Where to append; nothing else is allocated
+     */
+    public void appendTo(StringBuilder out) {
+        int width = getLabelWidth();
+        out.append('\n');
+        appendSpaces(out, width + 3);
+        for (int j = 0; j < size; j++) {
+            out.append(' ');
+            appendPadded(out, j + 1, width);
+            if (j < size - 1) {
+                out.append("  ");
+            }
+        }
+        out.append('\n');
+        for (int i = 0; i < size; i++) {
+            out.append("  ");
+            appendPadded(out, i + 1, width);
+            out.append(' ');
+            for (int j = 0; j < size; j++) {
+                out.append(' ');
+                appendSpaces(out, width - 1);
+                out.append(getCell(i, j)).append(' ');
+                if (j < size - 1) {
+                    out.append('|');
+                }
+            }
+            out.append('\n');
+            if (i < size - 1) {
+                appendSpaces(out, width + 3);
+                for (int j = 0; j < size; j++) {
+                    for (int k = 0; k < width + 2; k++) {
+                        out.append('-');
+                    }
+                    if (j < size - 1) {
+                        out.append('+');
+                    }
+                }
+                out.append('\n');
+            }
+        }
+    }
+
+    /**
+     * Gets where a cell's symbol appears in the text written by appendTo
+     * @param row The row index
+     * @return Line number of the row, counting the leading blank line as 0
+     */
+    public int getTextLine(int row) {
+        return 2 + 2 * row;
+    }
+
+    /**
+     * Gets where a cell's symbol appears in the text written by appendTo
+     * @param col The column index
+     * @return Character offset of the symbol within its line
+     */
+    public int getTextColumn(int col) {
+        int width = getLabelWidth();
+        return (width + 3) * (col + 1) + width;
+    }
+
+    /**
+     * Gets the number of lines written by appendTo
+     * @return Line count, including the leading blank line
+     */
+    public int getTextLines() {
+        return 2 * size + 1;
+    }
+
+    private int getLabelWidth() {
+        return digits(size);
+    }
+
+    private static int digits(int number) {
+        int count = 1;
+        while (number >= 10) {
+            number /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    private static void appendSpaces(StringBuilder out, int count) {
+        for (int k = 0; k < count; k++) {
+            out.append(' ');
+        }
+    }
+
+    private static void appendPadded(StringBuilder out, int number, int width) {
+        appendSpaces(out, width - digits(number));
+        out.append(number);
+    }
+
+    /**
+     * Gets the number of rows (and columns)
+     * @return The board size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of symbols in a row needed to win
+     * @return The win length
+     */
+    public int getWinLength() {
+        return winLength;
+    }
+
+    /**
+     * Gets the number of cells
+     * @return size * size
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Checks whether this is the classic 3x3, three-in-a-row board.
+     * Engines that rely on the 9-bit masks only accept classic boards.
+     * @return true for a 3x3 board with win length 3
+     */
+    public boolean isClassic() {
+        return classic;
+    }
+
+    /**
+     * Checks whether a position lies on the board
+     * @param row The row index
+     * @param col The column index
+     * @return true if both indexes are between 0 and size - 1
+     */
+    public boolean isInBounds(int row, int col) {
+        return row >= 0 && row < size && col >= 0 && col < size;
+    }
+
+    /**
+     * Gets the symbol at a cell
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @return 'X', 'O' or ' ' if the cell is empty
+     */
+    public char getCell(int row, int col) {
+        int cell = row * size + col;
+        long bit = 1L << cell;
+        if ((xWords[cell >>> 6] & bit) != 0) {
+            return 'X';
+        }
+        if ((oWords[cell >>> 6] & bit) != 0) {
+            return 'O';
+        }
+        return ' ';
+    }
+
+    /**
+     * Checks whether a cell is empty
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @return true if neither symbol occupies the cell
+     */
+    public boolean isCellEmpty(int row, int col) {
+        int cell = row * size + col;
+        return ((xWords[cell >>> 6] | oWords[cell >>> 6]) & (1L << cell)) == 0;
+    }
+
+    /**
+     * Checks whether a cell is empty
+     * @param cell The cell index (row * size + col)
+     * @return true if neither symbol occupies the cell
+     */
+    public boolean isCellEmpty(int cell) {
+        return ((xWords[cell >>> 6] | oWords[cell >>> 6]) & (1L << cell)) == 0;
+    }
+
+    /**
+     * Places a symbol on a cell. Passing ' ' clears the cell.
+     * @param cell The cell index (row * size + col)
+     * @param symbol 'X', 'O' or ' '
+     */
+    public void makeMove(int cell, char symbol) {
+        makeMove(cell / size, cell % size, symbol);
+    }
+
+    /**
+     * Places a symbol on a cell. Passing ' ' clears the cell.
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @param symbol 'X', 'O' or ' '
+     */
+    public void makeMove(int row, int col, char symbol) {
+        int cell = row * size + col;
+        int word = cell >>> 6;
+        long bit = 1L << cell;
+        if (((xWords[word] | oWords[word]) & bit) != 0) {
+            filledCount--;
+        }
+        xWords[word] &= ~bit;
+        oWords[word] &= ~bit;
+        if (symbol == 'X') {
+            xWords[word] |= bit;
+            filledCount++;
+        } else if (symbol == 'O') {
+            oWords[word] |= bit;
+            filledCount++;
+        }
+    }
+
+    /**
+     * Checks whether every cell is occupied
+     * @return true if the board is full
+     */
+    public boolean isFull() {
+        return filledCount == cellCount;
+    }
+
+    /**
+     * Gets the number of occupied cells, kept as a running count
+     * @return Number of cells holding 'X' or 'O'
+     */
+    public int getFilledCount() {
+        return filledCount;
+    }
+
+    /**
+     * Checks whether a symbol has a winning line anywhere on the board.
+     * This scans the whole board; after a move prefer hasWonThrough.
+     * @param symbol 'X' or 'O'
+     * @return true if the symbol has winLength in a row
+     */
+    public boolean hasWon(char symbol) {
+        if (classic) {
+            int bits = getBits(symbol);
+            for (int mask : WIN_MASKS) {
+                if ((bits & mask) == mask) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (getCell(row, col) == symbol && hasWonThrough(symbol, row, col)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether a symbol has won on a line through the given cell.
+     * Only the lines containing that cell are tested: the precomputed masks on
+     * the classic board, otherwise the four directions out from the cell.
+     * @param symbol 'X' or 'O'
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @return true if a line through the cell is complete for the symbol
+     */
+    public boolean hasWonThrough(char symbol, int row, int col) {
+        if (classic) {
+            int bits = getBits(symbol);
+            for (int mask : CELL_LINES[row * SIZE + col]) {
+                if ((bits & mask) == mask) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return longestLineThrough(symbol, row, col) >= winLength;
+    }
+
+    /**
+     * Gets the longest run a symbol would have through a cell if it stood there.
+     * The cell itself is counted whatever it holds, so this also answers
+     * "would playing here win?" without modifying the board.
+     * @param symbol 'X' or 'O'
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @return Length of the longest horizontal, vertical or diagonal run through the cell
+     */
+    public int longestLineThrough(char symbol, int row, int col) {
+        int longest = 0;
+        for (int d = 0; d < DIRECTION_ROW.length; d++) {
+            int length = 1
+                    + countRun(symbol, row, col, DIRECTION_ROW[d], DIRECTION_COL[d])
+                    + countRun(symbol, row, col, -DIRECTION_ROW[d], -DIRECTION_COL[d]);
+            if (length > longest) {
+                longest = length;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Counts consecutive cells holding a symbol, starting next to (row, col)
+     * and stepping by (dRow, dCol)
+     */
+    private int countRun(char symbol, int row, int col, int dRow, int dCol) {
+        int count = 0;
+        int r = row + dRow;
+        int c = col + dCol;
+        while (count < winLength && isInBounds(r, c) && getCell(r, c) == symbol) {
+            count++;
+            r += dRow;
+            c += dCol;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the raw bitmask for a symbol on a small board.
+     * Only meaningful for boards with at most 32 cells, such as the classic board.
+     * @param symbol 'X' or 'O'
+     * @return The cell bitmask, or 0 for any other symbol
+     */
+    public int getBits(char symbol) {
+        if (symbol == 'X') {
+            return (int) xWords[0];
+        }
+        if (symbol == 'O') {
+            return (int) oWords[0];
+        }
+        return 0;
+    }
+}
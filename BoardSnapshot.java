@@ -0,0 +1,269 @@
+import java.util.Arrays;
+
+/**
+ * Immutable view of a board at one moment, safe to hand to any number of threads.
+ * Boards of up to 32 cells (the classic board and 4x4, 5x5) are packed into a
+ * single long: 'X' cells in the low 32 bits and 'O' cells in the high 32 bits.
+ * Larger boards keep one bitset per symbol; withMove copies only the bitset of
+ * the symbol that moved and shares the other one with the previous snapshot.
+ * Game publishes a new snapshot after every move, so renderers, spectators and
+ * analysis threads read positions without locks while the live Board changes.
+ * Demonstrates an immutable value type derived cheaply from its predecessor.
+ */
+public final class BoardSnapshot {
+    private static final int PACKED_CELLS = 32;
+
+    private final int size;
+    private final int winLength;
+    private final int filledCount;
+    private final long packed;
+    private final long[] xWords;
+    private final long[] oWords;
+
+    private BoardSnapshot(int size, int winLength, int filledCount, long packed, long[] xWords, long[] oWords) {
+        this.size = size;
+        this.winLength = winLength;
+        this.filledCount = filledCount;
+        this.packed = packed;
+        this.xWords = xWords;
+        this.oWords = oWords;
+    }
+
+    /**
+     * Creates the snapshot of an empty board
+     * @param size Number of rows and columns
+     * @param winLength Number of symbols in a row needed to win
+     * @return The empty position
+     */
+    public static BoardSnapshot empty(int size, int winLength) {
+        return of(size, winLength, new long[words(size)], new long[words(size)], 0);
+    }
+
+    /**
+     * Creates a snapshot from a board's bitsets, copying them when they cannot be packed.
+     * Used by Board.snapshot.
+     */
+    static BoardSnapshot of(int size, int winLength, long[] xWords, long[] oWords, int filledCount) {
+        if (size * size <= PACKED_CELLS) {
+            return new BoardSnapshot(size, winLength, filledCount, (xWords[0] & 0xFFFFFFFFL) | (oWords[0] << 32),
+                    null, null);
+        }
+        return new BoardSnapshot(size, winLength, filledCount, 0, xWords.clone(), oWords.clone());
+    }
+
+    /**
+     * Derives the position after the side to move plays a cell.
+     * 'X' moves when both symbols have the same number of cells.
+     * @param cell The cell index (row * size + col), which must be empty
+     * @return The new snapshot; this one is unchanged
+     */
+    public BoardSnapshot withMove(int cell) {
+        return withMove(cell, getSymbolToMove());
+    }
+
+    /**
+     * Derives the position after a symbol is placed on a cell
+     * @param cell The cell index (row * size + col), which must be empty
+     * @param symbol 'X' or 'O'
+     * @return The new snapshot; this one is unchanged
+     */
+    public BoardSnapshot withMove(int cell, char symbol) {
+        if (symbol != 'X' && symbol != 'O') {
+            throw new IllegalArgumentException("Invalid symbol: " + symbol);
+        }
+        if (cell < 0 || cell >= getCellCount() || !isCellEmpty(cell)) {
+            throw new IllegalArgumentException("Cell " + cell + " is not an empty cell");
+        }
+        if (xWords == null) {
+            long bit = 1L << (symbol == 'X' ? cell : cell + PACKED_CELLS);
+            return new BoardSnapshot(size, winLength, filledCount + 1, packed | bit, null, null);
+        }
+        long[] changed = (symbol == 'X' ? xWords : oWords).clone();
+        changed[cell >>> 6] |= 1L << cell;
+        return (symbol == 'X')
+                ? new BoardSnapshot(size, winLength, filledCount + 1, 0, changed, oWords)
+                : new BoardSnapshot(size, winLength, filledCount + 1, 0, xWords, changed);
+    }
+
+    /**
+     * Creates a mutable board holding this position
+     * @return A new board
+     */
+    public Board toBoard() {
+        Board board = new Board(size, winLength);
+        board.copyFrom(this);
+        return board;
+    }
+
+    /**
+     * Gets the symbol at a cell
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
+     * @return 'X', 'O' or ' ' if the cell is empty
+     */
+    public char getCell(int row, int col) {
+        return getCell(row * size + col);
+    }
+
+    /**
+     * Gets the symbol at a cell
+     * @param cell The cell index (row * size + col)
+     * @return 'X', 'O' or ' ' if the cell is empty
+     */
+    public char getCell(int cell) {
+        if ((xWord(cell >>> 6) & (1L << cell)) != 0) {
+            return 'X';
+        }
+        if ((oWord(cell >>> 6) & (1L << cell)) != 0) {
+            return 'O';
+        }
+        return ' ';
+    }
+
+    /**
+     * Checks whether a cell is empty
+     * @param cell The cell index (row * size + col)
+     * @return true if neither symbol occupies the cell
+     */
+    public boolean isCellEmpty(int cell) {
+        return ((xWord(cell >>> 6) | oWord(cell >>> 6)) & (1L << cell)) == 0;
+    }
+
+    /**
+     * Gets the symbol whose turn it is, assuming 'X' moved first
+     * @return 'X' or 'O'
+     */
+    public char getSymbolToMove() {
+        return (filledCount % 2 == 0) ? 'X' : 'O';
+    }
+
+    /**
+     * Checks whether a symbol has a winning line anywhere on the board
+     * @param symbol 'X' or 'O'
+     * @return true if the symbol has winLength in a row
+     */
+    public boolean hasWon(char symbol) {
+        if (size == Board.SIZE && winLength == Board.SIZE) {
+            int bits = getBits(symbol);
+            for (int mask : Board.WIN_MASKS) {
+                if ((bits & mask) == mask) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                for (int[] direction : directions) {
+                    int length = 0;
+                    int r = row;
+                    int c = col;
+                    while (length < winLength && r >= 0 && r < size && c >= 0 && c < size
+                            && getCell(r, c) == symbol) {
+                        length++;
+                        r += direction[0];
+                        c += direction[1];
+                    }
+                    if (length == winLength) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the raw bitmask for a symbol on a board of up to 32 cells
+     * @param symbol 'X' or 'O'
+     * @return The cell bitmask, or 0 for any other symbol
+     */
+    public int getBits(char symbol) {
+        if (symbol == 'X') {
+            return (int) xWord(0);
+        }
+        if (symbol == 'O') {
+            return (int) oWord(0);
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the whole position as one long on boards of up to 32 cells
+     * @return 'X' cells in the low 32 bits, 'O' cells in the high 32 bits
+     */
+    public long getPacked() {
+        if (xWords != null) {
+            throw new IllegalStateException("Only boards of up to " + PACKED_CELLS + " cells are packed");
+        }
+        return packed;
+    }
+
+    // Getters
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCellCount() {
+        return size * size;
+    }
+
+    public int getFilledCount() {
+        return filledCount;
+    }
+
+    public boolean isFull() {
+        return filledCount == getCellCount();
+    }
+
+    /**
+     * Gets one 64-cell word of the 'X' bitset. Used by Board.copyFrom.
+     */
+    long xWord(int index) {
+        return (xWords == null) ? packed & 0xFFFFFFFFL : xWords[index];
+    }
+
+    /**
+     * Gets one 64-cell word of the 'O' bitset. Used by Board.copyFrom.
+     */
+    long oWord(int index) {
+        return (oWords == null) ? packed >>> 32 : oWords[index];
+    }
+
+    static int words(int size) {
+        return (size * size + 63) >>> 6;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof BoardSnapshot)) {
+            return false;
+        }
+        BoardSnapshot that = (BoardSnapshot) other;
+        return size == that.size && winLength == that.winLength && packed == that.packed
+                && Arrays.equals(xWords, that.xWords) && Arrays.equals(oWords, that.oWords);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(packed) + Arrays.hashCode(xWords)) + Arrays.hashCode(oWords);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(getCellCount() + size);
+        for (int cell = 0; cell < getCellCount(); cell++) {
+            char symbol = getCell(cell);
+            out.append(symbol == ' ' ? '.' : symbol);
+            if (cell % size == size - 1 && cell < getCellCount() - 1) {
+                out.append('/');
+            }
+        }
+        return out.toString();
+    }
+}
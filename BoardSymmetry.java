@@ -0,0 +1,144 @@
+/**
+ * Maps 3x3 positions to a canonical form under the 8 rotations and reflections
+ * of the square. Positions that differ only by symmetry share one canonical key,
+ * so caches and tables keyed on it store each position once instead of up to 8 times.
+ * Demonstrates precomputing lookup tables to keep hot-path work to array reads.
+ */
+public final class BoardSymmetry {
+    /** Number of symmetries of the square (4 rotations, each optionally mirrored). */
+    public static final int TRANSFORMS = 8;
+
+    /** Index of the identity transform. */
+    public static final int IDENTITY = 0;
+
+    /**
+     * CELL_MAP[t][cell] is where transform t moves the given cell.
+     */
+    private static final int[][] CELL_MAP = new int[TRANSFORMS][Board.CELLS];
+
+    /**
+     * INVERSE_MAP[t][cell] is the cell that transform t moves onto the given cell.
+     */
+    private static final int[][] INVERSE_MAP = new int[TRANSFORMS][Board.CELLS];
+
+    /**
+     * MASK_MAP[t][bits] is the 9-bit mask after applying transform t.
+     */
+    private static final short[][] MASK_MAP = new short[TRANSFORMS][1 << Board.CELLS];
+
+    static {
+        for (int t = 0; t < TRANSFORMS; t++) {
+            for (int row = 0; row < Board.SIZE; row++) {
+                for (int col = 0; col < Board.SIZE; col++) {
+                    int r = row;
+                    int c = col;
+                    // Rotate 90 degrees clockwise (t % 4) times, then mirror left-right for t >= 4
+                    for (int k = 0; k < t % 4; k++) {
+                        int rotated = c;
+                        c = Board.SIZE - 1 - r;
+                        r = rotated;
+                    }
+                    if (t >= 4) {
+                        c = Board.SIZE - 1 - c;
+                    }
+                    int from = row * Board.SIZE + col;
+                    int to = r * Board.SIZE + c;
+                    CELL_MAP[t][from] = to;
+                    INVERSE_MAP[t][to] = from;
+                }
+            }
+            for (int bits = 0; bits < (1 << Board.CELLS); bits++) {
+                int mapped = 0;
+                for (int cell = 0; cell < Board.CELLS; cell++) {
+                    if ((bits & (1 << cell)) != 0) {
+                        mapped |= 1 << CELL_MAP[t][cell];
+                    }
+                }
+                MASK_MAP[t][bits] = (short) mapped;
+            }
+        }
+    }
+
+    private BoardSymmetry() {
+    }
+
+    /**
+     * Applies a transform to a cell bitmask
+     * @param bits A 9-bit cell mask
+     * @param transform Transform index (0-7)
+     * @return The transformed mask
+     */
+    public static int transform(int bits, int transform) {
+        return MASK_MAP[transform][bits];
+    }
+
+    /**
+     * Maps a cell from the original board onto the transformed board
+     * @param cell The cell index (0-8)
+     * @param transform Transform index (0-7)
+     * @return The cell index after the transform
+     */
+    public static int mapCell(int cell, int transform) {
+        return CELL_MAP[transform][cell];
+    }
+
+    /**
+     * Maps a cell chosen on the transformed board back to the original board
+     * @param cell The cell index on the transformed board
+     * @param transform Transform index that produced that board
+     * @return The matching cell index on the original board
+     */
+    public static int unmapCell(int cell, int transform) {
+        return INVERSE_MAP[transform][cell];
+    }
+
+    /**
+     * Finds the canonical form of a position: the transform giving the smallest
+     * key (first | second << 9).
+     * @param first Cells held by the first side (for example the side to move)
+     * @param second Cells held by the other side
+     * @return The canonical key in the low 18 bits and the transform index above them;
+     *         read them back with canonicalKey and transformOf
+     */
+    public static int canonicalize(int first, int second) {
+        int bestKey = Integer.MAX_VALUE;
+        int bestTransform = IDENTITY;
+        for (int t = 0; t < TRANSFORMS; t++) {
+            int key = MASK_MAP[t][first] | (MASK_MAP[t][second] << Board.CELLS);
+            if (key < bestKey) {
+                bestKey = key;
+                bestTransform = t;
+            }
+        }
+        return bestKey | (bestTransform << (2 * Board.CELLS));
+    }
+
+    /**
+     * Canonicalizes a board from one symbol's point of view
+     * @param board The game board
+     * @param symbol The symbol whose cells go in the low half of the key
+     * @return The packed canonical key and transform, as from canonicalize(int, int)
+     */
+    public static int canonicalize(Board board, char symbol) {
+        char other = (symbol == 'X') ? 'O' : 'X';
+        return canonicalize(board.getBits(symbol), board.getBits(other));
+    }
+
+    /**
+     * Extracts the canonical key from a canonicalize result
+     * @param canonical Packed result of canonicalize
+     * @return The 18-bit canonical key
+     */
+    public static int canonicalKey(int canonical) {
+        return canonical & ((1 << (2 * Board.CELLS)) - 1);
+    }
+
+    /**
+     * Extracts the transform from a canonicalize result
+     * @param canonical Packed result of canonicalize
+     * @return The transform index (0-7) that maps the original board to the canonical one
+     */
+    public static int transformOf(int canonical) {
+        return canonical >>> (2 * Board.CELLS);
+    }
+}
@@ -1,11 +1,12 @@
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a computer player with random move strategy.
  * Demonstrates inheritance and polymorphism.
  */
 public class ComputerPlayer extends Player {
-    private Random random;
+    private RandomGenerator random;
 
     /**
      * Constructor for ComputerPlayer
@@ -13,34 +14,52 @@ public class ComputerPlayer extends Player {
      * @param symbol The player's symbol ('X' or 'O')
      */
     public ComputerPlayer(String name, char symbol) {
+        this(name, symbol, Seeds.newRandom());
+    }
+
+    /**
+     * Constructor for a ComputerPlayer with its own random source,
+     * for example one split per worker thread in a parallel tournament
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param random Source of the random moves
+     */
+    public ComputerPlayer(String name, char symbol, RandomGenerator random) {
         super(name, symbol);
-        this.random = new Random();
+        this.random = random;
+        setPacing(MovePacing.fixed(1000)); // Simulate thinking time
+        setMoveListener(ConsoleMoveListener.INSTANCE);
     }
 
     /**
-     * Overrides makeMove to implement random move selection.
+     * Overrides selectMove to implement random move selection.
      * Demonstrates polymorphism through method overriding.
      * @param board The game board
-     * @return Array containing [row, col] of the move
+     * @return The chosen cell index
      */
     @Override
-    public int[] makeMove(Board board) {
-        int row, col;
-        
-        // Keep generating random positions until finding an empty cell
-        do {
-            row = random.nextInt(3);
-            col = random.nextInt(3);
-        } while (!board.isCellEmpty(row, col));
+    public int selectMove(Board board) {
+        return reveal(board, chooseRandomCell(board), "is thinking...", null);
+    }
 
-        System.out.println(getName() + " is thinking...");
-        try {
-            Thread.sleep(1000); // Simulate thinking time
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    /**
+     * Overrides selectMoveAsync so the thinking time is a scheduled delay
+     * rather than a sleeping thread.
+     * @param board The game board
+     * @return A future holding the chosen cell index
+     */
+    @Override
+    public CompletableFuture<Integer> selectMoveAsync(Board board) {
+        return revealAsync(board, chooseRandomCell(board), "is thinking...", null);
+    }
 
-        System.out.println(getName() + " chose: Row " + (row + 1) + ", Column " + (col + 1));
-        return new int[]{row, col};
+    private int chooseRandomCell(Board board) {
+        int cell;
+        
+        // Keep generating random cells until finding an empty one
+        do {
+            cell = random.nextInt(board.getCellCount());
+        } while (!board.isCellEmpty(cell));
+        return cell;
     }
-}
\ No newline at end of file
+}
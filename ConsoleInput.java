@@ -0,0 +1,85 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * The one reader of System.in shared by the menu, Game and HumanPlayer.
+ * Several Scanners on System.in each buffer input ahead, so a line typed for
+ * one could be swallowed by another; a single shared reader avoids that.
+ * nextInt and nextLine behave like Scanner's: numbers are read token by token
+ * and nextLine returns the rest of the current line. Unlike Scanner this needs
+ * no regular expressions or locale data, which keeps them off the startup path.
+ * The reader is opened on first use.
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class ConsoleInput {
+    private static BufferedReader reader;
+    private static String line; // the line being read, or null when the next read needs a new line
+    private static int position;
+
+    private ConsoleInput() {
+    }
+
+    /**
+     * Reads the next whole number, which may be on the current line or a later one
+     * @return The number
+     * @throws InputMismatchException if the next token is not a number; the token is not consumed
+     * @throws NoSuchElementException if input has ended
+     */
+    public static synchronized int nextInt() {
+        while (true) {
+            if (line == null) {
+                line = readLine();
+                position = 0;
+            }
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            if (position < line.length()) {
+                break;
+            }
+            line = null;
+        }
+        int end = position;
+        while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+            end++;
+        }
+        String token = line.substring(position, end);
+        try {
+            int value = Integer.parseInt(token);
+            position = end;
+            return value;
+        } catch (NumberFormatException e) {
+            throw new InputMismatchException("Not a number: " + token);
+        }
+    }
+
+    /**
+     * Reads the rest of the current line, or the next line if none is in progress
+     * @return The text without its line terminator
+     * @throws NoSuchElementException if input has ended
+     */
+    public static synchronized String nextLine() {
+        String rest = (line == null) ? readLine() : line.substring(position);
+        line = null;
+        return rest;
+    }
+
+    private static String readLine() {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(System.in));
+        }
+        try {
+            String next = reader.readLine();
+            if (next == null) {
+                throw new NoSuchElementException("No more input");
+            }
+            return next;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
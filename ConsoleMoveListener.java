@@ -0,0 +1,28 @@
+/**
+ * Prints computer players' activity to the console, one line per event.
+ * Demonstrates a stateless listener shared by every player.
+ */
+public final class ConsoleMoveListener implements MoveListener {
+    /** The shared console listener. */
+    public static final ConsoleMoveListener INSTANCE = new ConsoleMoveListener();
+
+    private ConsoleMoveListener() {
+    }
+
+    @Override
+    public void thinking(Player player, String activity) {
+        System.out.println(player.getName() + " " + activity);
+    }
+
+    @Override
+    public void moveChosen(Player player, Board board, int cell) {
+        int row = cell / board.getSize();
+        int col = cell % board.getSize();
+        System.out.println(player.getName() + " chose: Row " + (row + 1) + ", Column " + (col + 1));
+    }
+
+    @Override
+    public void remark(Player player, String remark) {
+        System.out.println(player.getName() + " " + remark);
+    }
+}
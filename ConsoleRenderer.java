@@ -0,0 +1,152 @@
+import java.io.PrintStream;
+
+/**
+ * Draws an interactive game on the console.
+ * Every event is built as one frame in a single reused StringBuilder and
+ * written with one call, instead of many println calls on the synchronized,
+ * auto-flushing System.out.
+ * In ANSI mode the board is drawn once at the top of the screen, everything
+ * else scrolls underneath it, and a move only rewrites the one changed cell.
+ * Turn it on with -Dtictactoe.ansi=true in a terminal that supports ANSI escapes.
+ * Demonstrates a GameListener that keeps presentation out of Game.
+ */
+public class ConsoleRenderer implements GameListener {
+    private static final String ESC = "\033[";
+    private static final String BANNER = "========================================\n";
+
+    private final PrintStream out;
+    private final boolean ansi;
+    private final StringBuilder frame;
+
+    /**
+     * Constructor for a renderer on System.out; ANSI mode follows the tictactoe.ansi property
+     */
+    public ConsoleRenderer() {
+        this(System.out, Boolean.getBoolean("tictactoe.ansi"));
+    }
+
+    /**
+     * Constructor for a renderer on any stream
+     * @param out Where frames are written
+     * @param ansi true to redraw only changed cells using ANSI escape codes
+     */
+    public ConsoleRenderer(PrintStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+        this.frame = new StringBuilder(1024);
+    }
+
+    @Override
+    public void gameStarted(Board board, Player player1, Player player2) {
+        frame.setLength(0);
+        if (ansi) {
+            // Clear the screen, draw the title and board, then let only the lines below scroll
+            frame.append(ESC).append("2J").append(ESC).append("H");
+            frame.append("🎮 ").append(player1).append(" vs ").append(player2).append('\n');
+            board.appendTo(frame);
+            int firstFreeLine = board.getTextLines() + 2;
+            frame.append(ESC).append(firstFreeLine).append('r');
+            frame.append(ESC).append(firstFreeLine).append(";1H");
+        } else {
+            frame.append('\n').append(BANNER);
+            frame.append("      NEW GAME STARTED!\n");
+            frame.append(BANNER);
+            frame.append(player1).append(" vs ").append(player2).append('\n');
+            board.appendTo(frame);
+            frame.append('\n');
+        }
+        write();
+    }
+
+    @Override
+    public void turnStarted(Player player) {
+        frame.setLength(0);
+        frame.append(player.getName()).append("'s turn (").append(player.getSymbol()).append(")\n");
+        write();
+    }
+
+    @Override
+    public void moveMade(Board board, Player player, int cell) {
+        frame.setLength(0);
+        if (ansi) {
+            int row = cell / board.getSize();
+            int col = cell % board.getSize();
+            // Save the cursor, write the one cell (1-based, after the title line), restore the cursor
+            frame.append("\0337").append(ESC)
+                    .append(board.getTextLine(row) + 2).append(';').append(board.getTextColumn(col) + 1).append('H')
+                    .append(player.getSymbol()).append("\0338");
+        } else {
+            board.appendTo(frame);
+            frame.append('\n');
+        }
+        write();
+    }
+
+    @Override
+    public void gameWon(Board board, Player winner) {
+        frame.setLength(0);
+        frame.append('\n').append(BANNER);
+        frame.append("🎉 GAME OVER! 🎉\n");
+        frame.append(BANNER);
+        frame.append("Winner: ").append(winner.getName()).append(" (").append(winner.getSymbol()).append(")\n");
+        frame.append(BANNER).append('\n');
+        write();
+    }
+
+    @Override
+    public void gameDrawn(Board board) {
+        frame.setLength(0);
+        frame.append('\n').append(BANNER);
+        frame.append("🤝 GAME OVER! 🤝\n");
+        frame.append(BANNER);
+        frame.append("It's a DRAW!\n");
+        frame.append(BANNER).append('\n');
+        write();
+    }
+
+    @Override
+    public void scoreboard(Player player1, Player player2) {
+        frame.setLength(0);
+        frame.append("SCOREBOARD:\n");
+        appendScore(player1);
+        appendScore(player2);
+        frame.append('\n');
+        write();
+    }
+
+    @Override
+    public void playAgainAsked(boolean repeated) {
+        frame.setLength(0);
+        frame.append(repeated ? "Please enter 'yes' or 'no': " : "Play again? (yes/no): ");
+        write();
+    }
+
+    @Override
+    public void warning(String message) {
+        frame.setLength(0);
+        frame.append("⚠️ ").append(message).append('\n');
+        write();
+    }
+
+    @Override
+    public void finalScores(Player player1, Player player2) {
+        frame.setLength(0);
+        if (ansi) {
+            frame.append(ESC).append('r'); // whole screen scrolls again
+        }
+        frame.append("\nThanks for playing! Final Scores:\n");
+        appendScore(player1);
+        appendScore(player2);
+        frame.append("\nGoodbye! 👋\n");
+        write();
+    }
+
+    private void appendScore(Player player) {
+        frame.append(player.getName()).append(": ").append(player.getScore()).append(" win(s)\n");
+    }
+
+    private void write() {
+        out.append(frame);
+        out.flush();
+    }
+}
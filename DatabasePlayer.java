@@ -0,0 +1,62 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer player that plays perfectly by looking every move up in an EndgameDatabase.
+ * Unlike SmartComputerPlayer it also plays perfectly on 4x4 boards, as long as
+ * the database for that board has been solved.
+ * Demonstrates inheritance with a strategy that does no searching at all.
+ */
+public class DatabasePlayer extends Player {
+    private final EndgameDatabase database;
+    private final RandomGenerator random;
+
+    /**
+     * Constructor for a player backed by a solved database
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param database Solved table for the board being played
+     * @param random Source used to choose between equally good moves
+     */
+    public DatabasePlayer(String name, char symbol, EndgameDatabase database, RandomGenerator random) {
+        super(name, symbol);
+        this.database = database;
+        this.random = random;
+        setPacing(MovePacing.fixed(1000));
+        setMoveListener(ConsoleMoveListener.INSTANCE);
+    }
+
+    /**
+     * Overrides selectMove with one database lookup
+     * @param board The game board
+     * @return The chosen cell index
+     * @throws IllegalStateException if the database has no move for the position
+     */
+    @Override
+    public int selectMove(Board board) {
+        int code = database.encode(board);
+        return reveal(board, chooseMove(board, code), "is consulting the endgame database...", remark(code));
+    }
+
+    @Override
+    public CompletableFuture<Integer> selectMoveAsync(Board board) {
+        int code = database.encode(board);
+        return revealAsync(board, chooseMove(board, code), "is consulting the endgame database...",
+                remark(code));
+    }
+
+    private int chooseMove(Board board, int code) {
+        int cell = database.bestMove(code, random);
+        if (cell < 0) {
+            StringBuilder position = new StringBuilder();
+            board.appendTo(position);
+            throw new IllegalStateException(getName() + " has no move for position " + code
+                    + ": the game is over or the position cannot occur with X moving first\n" + position);
+        }
+        return cell;
+    }
+
+    private String remark(int code) {
+        return (database.outcome(code) == OpeningBook.OUTCOME_WIN) ? "is going for the win!" : null;
+    }
+}
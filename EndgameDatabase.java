@@ -0,0 +1,326 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Complete win/draw/loss table for a small board, built by RetrogradeSolver.
+ * One byte per base-3 position code: bits 6-7 hold the outcome for the side to
+ * move (OpeningBook.OUTCOME_ constants, 0 for positions that cannot occur) and
+ * bits 0-5 the number of plies to the end of the game under best play.
+ * Saved tables are memory-mapped, so a 4x4 database opens without being rebuilt.
+ * Run with: java EndgameDatabase [size] [winLength] [threads]
+ * Demonstrates a queryable precomputed table shared by bots and analysis tools.
+ */
+public class EndgameDatabase {
+    private static final int MAGIC = 0x54545444; // "TTTD"
+    private static final int HEADER_BYTES = 16;
+
+    private final int size;
+    private final int winLength;
+    private final int cells;
+    private final int[] powers;
+    private final ByteBuffer table;
+    private final long buildNanos;
+    private final boolean loadedFromFile;
+
+    EndgameDatabase(int size, int winLength, byte[] table, long buildNanos, boolean loadedFromFile) {
+        this(size, winLength, ByteBuffer.wrap(table), buildNanos, loadedFromFile);
+    }
+
+    private EndgameDatabase(int size, int winLength, ByteBuffer table, long buildNanos, boolean loadedFromFile) {
+        this.size = size;
+        this.winLength = winLength;
+        this.cells = size * size;
+        this.table = table;
+        this.buildNanos = buildNanos;
+        this.loadedFromFile = loadedFromFile;
+        this.powers = new int[cells];
+        for (int i = 0, power = 1; i < cells; i++, power *= 3) {
+            powers[i] = power;
+        }
+    }
+
+    /**
+     * Memory-maps a previously saved database
+     * @param path The file written by save
+     * @return The loaded database
+     * @throws IOException If the file cannot be read or is not a database
+     */
+    public static EndgameDatabase load(Path path) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC) {
+                throw new IOException("Not an endgame database: " + path);
+            }
+            int size = header.getInt();
+            int winLength = header.getInt();
+            int codes = header.getInt();
+            if (size * size > RetrogradeSolver.MAX_CELLS || codes != pow3(size * size)
+                    || channel.size() < HEADER_BYTES + (long) codes) {
+                throw new IOException("Damaged endgame database: " + path);
+            }
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, codes);
+            return new EndgameDatabase(size, winLength, table, System.nanoTime() - start, true);
+        }
+    }
+
+    /**
+     * Loads the database from a file, solving and saving it first if the file is missing
+     * @param path Location of the saved database
+     * @param rules The rules to solve if the file is missing
+     * @return The database
+     * @throws IOException If the file exists but cannot be read, or cannot be written
+     */
+    public static EndgameDatabase loadOrSolve(Path path, GameRules rules) throws IOException {
+        if (Files.exists(path)) {
+            return load(path);
+        }
+        EndgameDatabase database = RetrogradeSolver.solve(rules);
+        database.save(path);
+        return database;
+    }
+
+    /**
+     * Writes the database to a file
+     * @param path Destination file
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC).putInt(size).putInt(winLength).putInt(getCodeCount()).flip();
+        ByteBuffer body = table.duplicate();
+        body.clear();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (body.hasRemaining()) {
+                channel.write(body);
+            }
+        }
+    }
+
+    /**
+     * Encodes a board of this database's size
+     * @param board The game board
+     * @return The base-3 position code
+     */
+    public int encode(Board board) {
+        if (board.getSize() != size || board.getWinLength() != winLength) {
+            throw new IllegalArgumentException("Database is for " + size + "x" + size + " with "
+                    + winLength + " in a row");
+        }
+        int code = 0;
+        for (int cell = 0; cell < cells; cell++) {
+            char symbol = board.getCell(cell / size, cell % size);
+            if (symbol == 'X') {
+                code += powers[cell];
+            } else if (symbol == 'O') {
+                code += 2 * powers[cell];
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Looks up the result for the side to move
+     * @param code The base-3 position code
+     * @return One of the OpeningBook.OUTCOME_ constants; OUTCOME_UNKNOWN if the position cannot occur
+     */
+    public int outcome(int code) {
+        return outcomeOf(table.get(code));
+    }
+
+    /**
+     * Looks up how long the game lasts under best play
+     * @param code The base-3 position code
+     * @return Plies until the game ends
+     */
+    public int distance(int code) {
+        return distanceOf(table.get(code));
+    }
+
+    /**
+     * Finds a best move: the fastest win, otherwise a draw, otherwise the slowest loss
+     * @param code The base-3 position code
+     * @param random Chooses between equally good moves, or null to take the first
+     * @return The cell index, or -1 if the game is over or the position cannot occur
+     */
+    public int bestMove(int code, RandomGenerator random) {
+        int entry = table.get(code);
+        if (outcomeOf(entry) == OpeningBook.OUTCOME_UNKNOWN || distanceOf(entry) == 0) {
+            return -1;
+        }
+        int moverDigit = (countDigits(code, 1) == countDigits(code, 2)) ? 1 : 2;
+        int best = -1;
+        int ties = 0;
+        for (int cell = 0, rest = code; cell < cells; cell++, rest /= 3) {
+            if (rest % 3 != 0) {
+                continue;
+            }
+            int child = table.get(code + moverDigit * powers[cell]);
+            // A child that is as bad as possible for the opponent and matches our distance is best
+            if (outcomeOf(child) == flip(outcomeOf(entry)) && distanceOf(child) + 1 == distanceOf(entry)) {
+                ties++;
+                if (best < 0 || (random != null && random.nextInt(ties) == 0)) {
+                    best = cell;
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds a best move on a board
+     * @param board The game board
+     * @param random Chooses between equally good moves, or null to take the first
+     * @return The cell index, or -1 if the game is over
+     */
+    public int bestMove(Board board, RandomGenerator random) {
+        return bestMove(encode(board), random);
+    }
+
+    // Getters
+    public int getSize() {
+        return size;
+    }
+
+    public int getWinLength() {
+        return winLength;
+    }
+
+    public int getCodeCount() {
+        return powers[cells - 1] * 3;
+    }
+
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    public boolean isLoadedFromFile() {
+        return loadedFromFile;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Endgame database %dx%d, %d in a row: %d bytes, %s in %.2f ms",
+                size, size, winLength, getCodeCount(), loadedFromFile ? "loaded" : "solved", buildNanos / 1e6);
+    }
+
+    static byte entry(int outcome, int distance) {
+        return (byte) (outcome << 6 | distance);
+    }
+
+    static int outcomeOf(int entry) {
+        return (entry >>> 6) & 0x3;
+    }
+
+    static int distanceOf(int entry) {
+        return entry & 0x3F;
+    }
+
+    static int pow3(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 3;
+        }
+        return result;
+    }
+
+    private static int flip(int outcome) {
+        if (outcome == OpeningBook.OUTCOME_WIN) {
+            return OpeningBook.OUTCOME_LOSS;
+        }
+        return (outcome == OpeningBook.OUTCOME_LOSS) ? OpeningBook.OUTCOME_WIN : outcome;
+    }
+
+    private int countDigits(int code, int digit) {
+        int count = 0;
+        for (int cell = 0; cell < cells; cell++, code /= 3) {
+            if (code % 3 == digit) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Solves or loads a database and prints an analysis: positions and results
+     * per move number, the value of the empty board and of every first move.
+     * On the classic board it also checks every answer against the opening book.
+     * @param args Optional board size (default 3), win length (default: size) and threads
+     * @throws IOException If the database file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 3;
+        int winLength = (args.length > 1) ? Integer.parseInt(args[1]) : size;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        GameRules rules = new TicTacToeRules(size, winLength);
+        Path path = Paths.get("tictactoe-" + size + "x" + size + "-" + winLength + ".db");
+
+        EndgameDatabase database = Files.exists(path) ? load(path) : RetrogradeSolver.solve(rules, threads);
+        if (!database.isLoadedFromFile()) {
+            database.save(path);
+        }
+        System.out.println("🧮 " + database + " (" + threads + " threads)");
+
+        int cells = size * size;
+        long[][] byLayer = new long[cells + 1][4];
+        for (int code = 0; code < database.getCodeCount(); code++) {
+            int outcome = database.outcome(code);
+            if (outcome != OpeningBook.OUTCOME_UNKNOWN) {
+                byLayer[cells - database.countDigits(code, 0)][outcome]++;
+            }
+        }
+        System.out.println("Pieces   positions   side to move wins   draws   loses");
+        long total = 0;
+        for (int layer = 0; layer <= cells; layer++) {
+            long[] counts = byLayer[layer];
+            long positions = counts[1] + counts[2] + counts[3];
+            total += positions;
+            System.out.printf("%6d %11d %19d %7d %7d%n", layer, positions,
+                    counts[OpeningBook.OUTCOME_WIN], counts[OpeningBook.OUTCOME_DRAW], counts[OpeningBook.OUTCOME_LOSS]);
+        }
+        System.out.println("Legal positions: " + total);
+
+        String[] names = {"unknown", "win", "draw", "loss"};
+        System.out.printf("Empty board: %s for X in %d plies%n", names[database.outcome(0)], database.distance(0));
+        for (int cell = 0; cell < cells; cell++) {
+            int child = database.powers[cell];
+            System.out.printf("  X at row %d, col %d: %s for X in %d plies%n", cell / size + 1, cell % size + 1,
+                    names[flip(database.outcome(child))], database.distance(child) + 1);
+        }
+
+        if (size == Board.SIZE && winLength == Board.SIZE) {
+            OpeningBook book = OpeningBook.solve();
+            int checked = 0;
+            int mismatches = 0;
+            for (int code = 0; code < PositionCode.CODE_COUNT; code++) {
+                int expected = book.outcome(code);
+                if (expected != OpeningBook.OUTCOME_UNKNOWN) {
+                    checked++;
+                    if (expected != database.outcome(code)) {
+                        mismatches++;
+                    }
+                }
+            }
+            System.out.printf("✅ Checked %d opening book positions: %d mismatches%n", checked, mismatches);
+        }
+
+        MatchRunner runner = new MatchRunner(new DatabasePlayer("Database", 'X', database, new SplittableRandom(1)),
+                new ComputerPlayer("Computer", 'O', new SplittableRandom(2)), rules);
+        System.out.println(runner.run(10_000));
+    }
+}
@@ -1,4 +1,5 @@
-import java.util.Scanner;
+import java.io.IOException;
+import java.util.Arrays;
 
 /**
  * Main game controller that manages the game flow.
@@ -10,8 +11,14 @@ public class Game {
     private Player player2;
     private Player currentPlayer;
     private GameRules rules;
+    private GameMetrics metrics;
+    private PlayerMetrics metrics1;
+    private PlayerMetrics metrics2;
     private boolean isGameActive;
-    private Scanner scanner;
+    private GameRecordWriter recorder;
+    private long record;
+    private GameListener[] listeners;
+    private volatile BoardSnapshot snapshot;
 
     /**
      * Constructor initializes the game with two players
@@ -19,13 +26,71 @@ public class Game {
      * @param player2 Second player
      */
     public Game(Player player1, Player player2) {
-        this.board = new Board();
+        this(player1, player2, new TicTacToeRules());
+    }
+
+    /**
+     * Constructor for a game played under specific rules, such as a larger board
+     * @param player1 First player
+     * @param player2 Second player
+     * @param rules The rules, which also decide the board size
+     */
+    public Game(Player player1, Player player2, GameRules rules) {
+        this(player1, player2, rules, new ConsoleRenderer());
+    }
+
+    /**
+     * Constructor for a game shown through a specific listener, for example
+     * an ANSI renderer or one that shows nothing
+     * @param player1 First player
+     * @param player2 Second player
+     * @param rules The rules, which also decide the board size
+     * @param listener Receives every game event; more can be added with addListener
+     */
+    public Game(Player player1, Player player2, GameRules rules, GameListener listener) {
+        this.listeners = new GameListener[]{listener};
+        this.board = rules.createBoard();
+        this.snapshot = board.snapshot();
         this.player1 = player1;
         this.player2 = player2;
         this.currentPlayer = player1; // Player 1 starts
-        this.rules = new TicTacToeRules();
+        this.rules = rules;
         this.isGameActive = false;
-        this.scanner = new Scanner(System.in);
+        this.metrics = GameMetrics.current();
+        if (metrics != null) {
+            this.rules = metrics.instrument(rules);
+            this.metrics1 = metrics.player(player1);
+            this.metrics2 = metrics.player(player2);
+        }
+    }
+
+    /**
+     * Adds a listener for game events, for example a logger next to the renderer
+     * @param listener The listener
+     */
+    public void addListener(GameListener listener) {
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Gets the position after the latest move. Safe to call from any thread
+     * while the game is running; the snapshot never changes once returned.
+     * @return The current position
+     */
+    public BoardSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sets where finished rounds are recorded
+     * @param recorder Writer that receives one record per round, or null to stop recording
+     */
+    public void setRecorder(GameRecordWriter recorder) {
+        if (recorder != null && !board.isClassic()) {
+            throw new IllegalArgumentException("Game records only cover the classic 3x3 board");
+        }
+        this.recorder = recorder;
     }
 
     /**
@@ -36,7 +101,9 @@ public class Game {
 
         while (playAgain) {
             playRound();
-            displayScoreboard();
+            for (GameListener listener : listeners) {
+                listener.scoreboard(player1, player2);
+            }
             playAgain = askPlayAgain();
             
             if (playAgain) {
@@ -45,49 +112,112 @@ public class Game {
             }
         }
 
-        displayFinalScores();
+        for (GameListener listener : listeners) {
+            listener.finalScores(player1, player2);
+        }
+    }
+
+    /**
+     * Plays one round without asking to play again, for headless drivers
+     * such as ReplayEngine. Scores and listeners are updated as in start.
+     * @return The winning symbol, or ' ' for a draw
+     */
+    public char playSingleRound() {
+        currentPlayer = player1;
+        return playRound();
     }
 
     /**
      * Plays a single round of the game
+     * @return The winning symbol, or ' ' for a draw
      */
-    private void playRound() {
-        System.out.println("\n========================================");
-        System.out.println("      NEW GAME STARTED!");
-        System.out.println("========================================");
-        System.out.println(player1 + " vs " + player2);
-        
+    private char playRound() {
         board.reset();
+        snapshot = board.snapshot();
+        record = GameRecord.EMPTY;
         isGameActive = true;
-        board.display();
+        for (GameListener listener : listeners) {
+            listener.gameStarted(board, player1, player2);
+        }
 
+        char result = ' ';
         while (isGameActive) {
-            playTurn();
-            board.display();
-            
-            // Check for winner
-            char winner = rules.checkWinner(board);
+            int cell = playTurn();
+            int row = cell / board.getSize();
+            int col = cell % board.getSize();
+            for (GameListener listener : listeners) {
+                listener.moveMade(board, currentPlayer, cell);
+            }
+
+            // Check for winner - only the lines through the last move can have changed
+            char winner = rules.checkWinner(board, row, col);
             if (winner != ' ') {
+                if (metrics != null) {
+                    metrics.recordGame(winner, board.getFilledCount());
+                }
                 announceWinner(winner);
+                recordRound(winner == player1.getSymbol()
+                        ? GameRecord.RESULT_FIRST_WINS : GameRecord.RESULT_SECOND_WINS);
                 isGameActive = false;
-            } else if (rules.isDraw(board)) {
+                result = winner;
+            } else if (rules.isDraw(board, row, col)) {
+                if (metrics != null) {
+                    metrics.recordGame(' ', board.getFilledCount());
+                }
                 announceDraw();
+                recordRound(GameRecord.RESULT_DRAW);
                 isGameActive = false;
             } else {
                 switchPlayer();
             }
         }
+        return result;
     }
 
     /**
      * Executes a single turn for the current player
+     * @return The cell index of the move played
      */
-    private void playTurn() {
-        System.out.println(currentPlayer.getName() + "'s turn (" + currentPlayer.getSymbol() + ")");
-        
+    private int playTurn() {
+        for (GameListener listener : listeners) {
+            listener.turnStarted(currentPlayer);
+        }
+
         // Polymorphism in action - different behavior based on player type
-        int[] move = currentPlayer.makeMove(board);
-        board.makeMove(move[0], move[1], currentPlayer.getSymbol());
+        long nodesBefore = (metrics == null) ? 0 : currentPlayer.getNodesSearched();
+        long start = System.nanoTime();
+        int cell = currentPlayer.selectMove(board);
+        if (metrics != null) {
+            (currentPlayer == player1 ? metrics1 : metrics2).recordMove(System.nanoTime() - start,
+                    currentPlayer.getNodesSearched() - nodesBefore);
+        }
+        board.makeMove(cell, currentPlayer.getSymbol());
+        // Readers on other threads see either the old position or the new one, never a half-made move
+        snapshot = snapshot.withMove(cell, currentPlayer.getSymbol());
+        if (recorder != null) {
+            record = GameRecord.addMove(record, cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Writes the finished round to the recorder, if there is one.
+     * A failed write stops recording but not the game.
+     * @param result One of the GameRecord.RESULT_ constants
+     */
+    private void recordRound(int result) {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.write(GameRecord.withResult(record, result));
+            recorder.flush();
+        } catch (IOException e) {
+            recorder = null;
+            for (GameListener listener : listeners) {
+                listener.warning("Could not record the game: " + e.getMessage());
+            }
+        }
     }
 
     /**
@@ -104,33 +234,18 @@ public class Game {
     private void announceWinner(char winnerSymbol) {
         Player winner = (player1.getSymbol() == winnerSymbol) ? player1 : player2;
         winner.incrementScore();
-        
-        System.out.println("\n========================================");
-        System.out.println("🎉 GAME OVER! 🎉");
-        System.out.println("========================================");
-        System.out.println("Winner: " + winner.getName() + " (" + winner.getSymbol() + ")");
-        System.out.println("========================================\n");
+        for (GameListener listener : listeners) {
+            listener.gameWon(board, winner);
+        }
     }
 
     /**
      * Announces a draw
      */
     private void announceDraw() {
-        System.out.println("\n========================================");
-        System.out.println("🤝 GAME OVER! 🤝");
-        System.out.println("========================================");
-        System.out.println("It's a DRAW!");
-        System.out.println("========================================\n");
-    }
-
-    /**
-     * Displays the current scoreboard
-     */
-    private void displayScoreboard() {
-        System.out.println("SCOREBOARD:");
-        System.out.println(player1.getName() + ": " + player1.getScore() + " win(s)");
-        System.out.println(player2.getName() + ": " + player2.getScore() + " win(s)");
-        System.out.println();
+        for (GameListener listener : listeners) {
+            listener.gameDrawn(board);
+        }
     }
 
     /**
@@ -138,25 +253,19 @@ public class Game {
      * @return true if yes, false if no
      */
     private boolean askPlayAgain() {
-        System.out.print("Play again? (yes/no): ");
-        String response = scanner.nextLine().trim().toLowerCase();
-        
-        while (!response.equals("yes") && !response.equals("no") && 
-               !response.equals("y") && !response.equals("n")) {
-            System.out.print("Please enter 'yes' or 'no': ");
-            response = scanner.nextLine().trim().toLowerCase();
+        boolean repeated = false;
+        while (true) {
+            for (GameListener listener : listeners) {
+                listener.playAgainAsked(repeated);
+            }
+            String response = ConsoleInput.nextLine().trim().toLowerCase();
+            if (response.equals("yes") || response.equals("y")) {
+                return true;
+            }
+            if (response.equals("no") || response.equals("n")) {
+                return false;
+            }
+            repeated = true;
         }
-        
-        return response.equals("yes") || response.equals("y");
-    }
-
-    /**
-     * Displays final scores before exiting
-     */
-    private void displayFinalScores() {
-        System.out.println("\nThanks for playing! Final Scores:");
-        System.out.println(player1.getName() + ": " + player1.getScore() + " win(s)");
-        System.out.println(player2.getName() + ": " + player2.getScore() + " win(s)");
-        System.out.println("\nGoodbye! 👋");
     }
-}
\ No newline at end of file
+}
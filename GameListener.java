@@ -0,0 +1,79 @@
+/**
+ * Receives the events of an interactive game so they can be shown or logged.
+ * Game decides what happens; listeners only present it. Every method has an
+ * empty default, so a listener implements just the events it cares about.
+ * Demonstrates the observer pattern through an interface.
+ */
+public interface GameListener {
+    /**
+     * Called when a round starts on a cleared board
+     * @param board The game board
+     * @param player1 First player, who moves first
+     * @param player2 Second player
+     */
+    default void gameStarted(Board board, Player player1, Player player2) {
+    }
+
+    /**
+     * Called before a player is asked for a move
+     * @param player The player to move
+     */
+    default void turnStarted(Player player) {
+    }
+
+    /**
+     * Called after a move has been placed on the board
+     * @param board The game board, including the move
+     * @param player The player who moved
+     * @param cell The cell index played
+     */
+    default void moveMade(Board board, Player player, int cell) {
+    }
+
+    /**
+     * Called when a round ends with a winner
+     * @param board The final board
+     * @param winner The winning player, whose score already includes this round
+     */
+    default void gameWon(Board board, Player winner) {
+    }
+
+    /**
+     * Called when a round ends in a draw
+     * @param board The final board
+     */
+    default void gameDrawn(Board board) {
+    }
+
+    /**
+     * Called after each round with the running scores
+     * @param player1 First player
+     * @param player2 Second player
+     */
+    default void scoreboard(Player player1, Player player2) {
+    }
+
+    /**
+     * Called when the players are asked whether to play another round,
+     * just before the answer is read
+     * @param repeated true if the previous answer was neither yes nor no
+     */
+    default void playAgainAsked(boolean repeated) {
+    }
+
+    /**
+     * Called when something goes wrong that does not stop the game,
+     * such as a round that could not be recorded
+     * @param message What went wrong
+     */
+    default void warning(String message) {
+    }
+
+    /**
+     * Called once when the players stop playing
+     * @param player1 First player
+     * @param player2 Second player
+     */
+    default void finalScores(Player player1, Player player2) {
+    }
+}
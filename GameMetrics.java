@@ -0,0 +1,240 @@
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Process-wide counters for games, moves, rule checks and search effort.
+ * Metrics are off unless the JVM is started with -Dtictactoe.metrics=true
+ * or enable() is called. Game and MatchRunner look the registry up once when
+ * they are created; while it is off they hold null and the hot path pays a
+ * single null check per move.
+ * When on, the registry is published over JMX as tictactoe:type=GameMetrics,
+ * and -Dtictactoe.metrics.dump=&lt;millis&gt; also prints a report periodically.
+ * Demonstrates instrumentation that costs nothing until it is switched on.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+    private static final String OBJECT_NAME = "tictactoe:type=GameMetrics";
+    private static volatile GameMetrics instance;
+
+    private final long startNanos;
+    private final LongAdder games;
+    private final LongAdder xWins;
+    private final LongAdder oWins;
+    private final LongAdder draws;
+    private final LongAdder moves;
+    private final LongAdder ruleChecks;
+    private final LongAdder ruleCheckNanos;
+    private final Map<String, PlayerMetrics> players;
+    private ScheduledExecutorService dumper;
+
+    static {
+        if (Boolean.getBoolean("tictactoe.metrics")) {
+            GameMetrics metrics = enable();
+            long dumpMillis = Long.getLong("tictactoe.metrics.dump", 0);
+            if (dumpMillis > 0) {
+                metrics.startDump(dumpMillis, System.out);
+            }
+        }
+    }
+
+    private GameMetrics() {
+        this.startNanos = System.nanoTime();
+        this.games = new LongAdder();
+        this.xWins = new LongAdder();
+        this.oWins = new LongAdder();
+        this.draws = new LongAdder();
+        this.moves = new LongAdder();
+        this.ruleChecks = new LongAdder();
+        this.ruleCheckNanos = new LongAdder();
+        this.players = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Gets the registry if metrics are enabled
+     * @return The shared registry, or null while metrics are off
+     */
+    public static GameMetrics current() {
+        return instance;
+    }
+
+    /**
+     * Switches metrics on for drivers created from now on and registers the JMX bean
+     * @return The shared registry
+     */
+    public static synchronized GameMetrics enable() {
+        if (instance == null) {
+            GameMetrics metrics = new GameMetrics();
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                System.err.println("⚠️ Metrics are not available over JMX: " + e.getMessage());
+            }
+            instance = metrics;
+        }
+        return instance;
+    }
+
+    /**
+     * Gets the metrics for a player, creating them on first use.
+     * Players are grouped by name, so parallel copies of one bot share an entry.
+     * @param player The player
+     * @return The player's metrics; keep it rather than looking it up per move
+     */
+    public PlayerMetrics player(Player player) {
+        return players.computeIfAbsent(player.getName(), PlayerMetrics::new);
+    }
+
+    /**
+     * Wraps rules so their win and draw checks are counted and timed
+     * @param rules The rules to wrap
+     * @return Instrumented rules reporting to this registry
+     */
+    public GameRules instrument(GameRules rules) {
+        if (rules instanceof InstrumentedRules) {
+            return rules;
+        }
+        return new InstrumentedRules(rules, this);
+    }
+
+    /**
+     * Records one finished game
+     * @param winner The winning symbol, or ' ' for a draw
+     * @param moveCount Moves played in the game
+     */
+    public void recordGame(char winner, int moveCount) {
+        games.increment();
+        moves.add(moveCount);
+        if (winner == 'X') {
+            xWins.increment();
+        } else if (winner == 'O') {
+            oWins.increment();
+        } else {
+            draws.increment();
+        }
+    }
+
+    /**
+     * Records one call to a win or draw check
+     * @param nanos Time the check took
+     */
+    public void recordRuleCheck(long nanos) {
+        ruleChecks.increment();
+        ruleCheckNanos.add(nanos);
+    }
+
+    /**
+     * Prints the report at a fixed rate on a background thread
+     * @param periodMillis Time between reports
+     * @param out Where to print
+     */
+    public synchronized void startDump(long periodMillis, PrintStream out) {
+        stopDump();
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> out.print(getReport()), periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic report, if one is running
+     */
+    public synchronized void stopDump() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+            dumper = null;
+        }
+    }
+
+    @Override
+    public long getGames() {
+        return games.sum();
+    }
+
+    @Override
+    public double getGamesPerSecond() {
+        return getGames() / Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    @Override
+    public long getXWins() {
+        return xWins.sum();
+    }
+
+    @Override
+    public long getOWins() {
+        return oWins.sum();
+    }
+
+    @Override
+    public long getDraws() {
+        return draws.sum();
+    }
+
+    @Override
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public long getSearchNodes() {
+        long total = 0;
+        for (PlayerMetrics player : players.values()) {
+            total += player.getSearchNodes();
+        }
+        return total;
+    }
+
+    @Override
+    public long getRuleChecks() {
+        return ruleChecks.sum();
+    }
+
+    @Override
+    public double getMeanRuleCheckNanos() {
+        long checks = getRuleChecks();
+        return (checks == 0) ? 0 : (double) ruleCheckNanos.sum() / checks;
+    }
+
+    @Override
+    public Map<String, Double> getMoveLatencyP99Micros() {
+        Map<String, Double> result = new TreeMap<>();
+        for (PlayerMetrics player : players.values()) {
+            result.put(player.getName(), player.getMoveLatency().getValueAtPercentile(99) / 1e3);
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getSearchNodesByPlayer() {
+        Map<String, Long> result = new TreeMap<>();
+        for (PlayerMetrics player : players.values()) {
+            result.put(player.getName(), player.getSearchNodes());
+        }
+        return result;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("📈 games=%d (%.0f/s) X wins=%d O wins=%d draws=%d moves=%d%n",
+                getGames(), getGamesPerSecond(), getXWins(), getOWins(), getDraws(), getMoves()));
+        report.append(String.format("   rule checks=%d (mean %.1f ns) search nodes=%d%n",
+                getRuleChecks(), getMeanRuleCheckNanos(), getSearchNodes()));
+        for (PlayerMetrics player : new TreeMap<>(players).values()) {
+            LatencyHistogram latency = player.getMoveLatency();
+            report.append(String.format("   %s: %d moves, %d nodes, %s%n",
+                    player.getName(), latency.getCount(), player.getSearchNodes(), latency.summaryMicros()));
+        }
+        return report.toString();
+    }
+}
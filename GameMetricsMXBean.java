@@ -0,0 +1,44 @@
+import java.util.Map;
+
+/**
+ * Management interface for GameMetrics, shown in JConsole or VisualVM
+ * under tictactoe:type=GameMetrics.
+ * Demonstrates exposing a read-only view through an interface.
+ */
+public interface GameMetricsMXBean {
+    long getGames();
+
+    double getGamesPerSecond();
+
+    long getXWins();
+
+    long getOWins();
+
+    long getDraws();
+
+    long getMoves();
+
+    long getSearchNodes();
+
+    long getRuleChecks();
+
+    double getMeanRuleCheckNanos();
+
+    /**
+     * Gets the 99th percentile move time of every player
+     * @return Microseconds, keyed by player name
+     */
+    Map<String, Double> getMoveLatencyP99Micros();
+
+    /**
+     * Gets the positions searched by every player
+     * @return Node counts, keyed by player name
+     */
+    Map<String, Long> getSearchNodesByPlayer();
+
+    /**
+     * Formats every metric as text
+     * @return The same report as the periodic dump
+     */
+    String getReport();
+}
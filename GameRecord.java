@@ -0,0 +1,122 @@
+import java.nio.ByteBuffer;
+
+/**
+ * Packs a whole 3x3 game into six bytes.
+ * A record is held in a long while it is built and read:
+ *   bits 0-35  up to nine moves, 4 bits each, in the order they were played
+ *   bits 36-39 number of moves
+ *   bits 40-41 result (one of the RESULT_ constants)
+ * Only the low 48 bits are stored, little-endian.
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class GameRecord {
+    /** Stored size of one record. */
+    public static final int BYTES = 6;
+
+    public static final int RESULT_DRAW = 0;
+    public static final int RESULT_FIRST_WINS = 1;
+    public static final int RESULT_SECOND_WINS = 2;
+
+    /** Record of a game with no moves yet. */
+    public static final long EMPTY = 0L;
+
+    private static final int COUNT_SHIFT = 36;
+    private static final int RESULT_SHIFT = 40;
+
+    private GameRecord() {
+    }
+
+    /**
+     * Appends a move to a record
+     * @param record The record so far
+     * @param cell The cell played (0-8)
+     * @return The record with the move added
+     */
+    public static long addMove(long record, int cell) {
+        int count = moveCount(record);
+        if (count >= Board.CELLS || cell < 0 || cell >= Board.CELLS) {
+            throw new IllegalArgumentException("Cannot record move " + cell + " after " + count + " moves");
+        }
+        return (record | (long) cell << (4 * count)) + (1L << COUNT_SHIFT);
+    }
+
+    /**
+     * Sets the result of a record
+     * @param record The record
+     * @param result One of the RESULT_ constants
+     * @return The record with its result set
+     */
+    public static long withResult(long record, int result) {
+        return (record & ~(3L << RESULT_SHIFT)) | (long) result << RESULT_SHIFT;
+    }
+
+    /**
+     * Gets the number of moves in a record
+     * @param record The record
+     * @return Moves played, 0-9
+     */
+    public static int moveCount(long record) {
+        return (int) (record >>> COUNT_SHIFT) & 0xF;
+    }
+
+    /**
+     * Gets one move of a record
+     * @param record The record
+     * @param index Move number, starting at 0
+     * @return The cell played
+     */
+    public static int move(long record, int index) {
+        return (int) (record >>> (4 * index)) & 0xF;
+    }
+
+    /**
+     * Gets the result of a record
+     * @param record The record
+     * @return One of the RESULT_ constants
+     */
+    public static int result(long record) {
+        return (int) (record >>> RESULT_SHIFT) & 0x3;
+    }
+
+    /**
+     * Checks that a record read from storage could have been written by this
+     * class: a known result, at most nine moves, and each move a distinct cell.
+     * @param record The record
+     * @return true if every field is in range
+     */
+    public static boolean isValid(long record) {
+        int count = moveCount(record);
+        if (result(record) > RESULT_SECOND_WINS || count > Board.CELLS) {
+            return false;
+        }
+        int seen = 0;
+        for (int i = 0; i < count; i++) {
+            int cell = move(record, i);
+            if (cell >= Board.CELLS || (seen & (1 << cell)) != 0) {
+                return false;
+            }
+            seen |= 1 << cell;
+        }
+        return true;
+    }
+
+    /**
+     * Writes a record at the buffer's position, which must be little-endian
+     * @param buffer Destination with at least BYTES remaining
+     * @param record The record
+     */
+    public static void put(ByteBuffer buffer, long record) {
+        buffer.putInt((int) record);
+        buffer.putShort((short) (record >>> 32));
+    }
+
+    /**
+     * Reads a record at an absolute index of a little-endian buffer
+     * @param buffer Source buffer
+     * @param offset Byte offset of the record
+     * @return The record
+     */
+    public static long get(ByteBuffer buffer, int offset) {
+        return (buffer.getInt(offset) & 0xFFFFFFFFL) | (buffer.getShort(offset + 4) & 0xFFFFL) << 32;
+    }
+}
@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * Scans a file written by GameRecordWriter.
+ * The file is memory-mapped in large windows and each record is handed to a
+ * LongConsumer as a packed long, so scanning allocates nothing per game and
+ * is limited by memory bandwidth rather than object creation.
+ * Demonstrates reading large binary files without deserializing objects.
+ */
+public class GameRecordReader implements AutoCloseable {
+    // Records per mapped window; keeps each mapping well below the 2 GB limit
+    private static final long WINDOW_RECORDS = 1L << 28;
+
+    private final FileChannel channel;
+    private final long recordCount;
+
+    /**
+     * Opens a record file
+     * @param path The record file
+     * @throws IOException If the file cannot be read or is not a record file
+     */
+    public GameRecordReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(GameRecordWriter.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < GameRecordWriter.HEADER_BYTES || header.getInt() != GameRecordWriter.MAGIC
+                    || header.getInt() != GameRecord.BYTES) {
+                throw new IOException("Not a game record file: " + path);
+            }
+            this.recordCount = (channel.size() - GameRecordWriter.HEADER_BYTES) / GameRecord.BYTES;
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of complete records in the file
+     * @return Record count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Passes every record, in file order, to a consumer
+     * @param consumer Receives each record as a packed long (see GameRecord)
+     * @throws IOException If the file cannot be mapped
+     */
+    public void scan(LongConsumer consumer) throws IOException {
+        for (long first = 0; first < recordCount; first += WINDOW_RECORDS) {
+            long records = Math.min(WINDOW_RECORDS, recordCount - first);
+            MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY,
+                    GameRecordWriter.HEADER_BYTES + first * GameRecord.BYTES, records * GameRecord.BYTES);
+            window.order(ByteOrder.LITTLE_ENDIAN);
+            int end = (int) (records * GameRecord.BYTES);
+            for (int offset = 0; offset < end; offset += GameRecord.BYTES) {
+                consumer.accept(GameRecord.get(window, offset));
+            }
+        }
+    }
+
+    /**
+     * Scans the whole file into summary statistics
+     * @return Totals, game lengths and results by opening move
+     * @throws IOException If the file cannot be mapped
+     */
+    public GameRecordStats statistics() throws IOException {
+        GameRecordStats stats = new GameRecordStats();
+        scan(stats);
+        return stats;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Prints statistics for a record file
+     * @param args Optional path (default games.bin)
+     * @throws IOException If the file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = Paths.get(args.length > 0 ? args[0] : "games.bin");
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            long start = System.nanoTime();
+            GameRecordStats stats = reader.statistics();
+            double seconds = (System.nanoTime() - start) / 1e9;
+            System.out.println(stats);
+            System.out.printf("📂 Scanned %d records (%d bytes) in %.3f s (%.0f records/s)%n",
+                    reader.getRecordCount(), reader.getRecordCount() * GameRecord.BYTES,
+                    seconds, reader.getRecordCount() / seconds);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.function.LongConsumer;
+
+/**
+ * Summary of many recorded games, built one packed record at a time.
+ * Counts results overall, by game length and by the first move played.
+ * A damaged record, with a field out of range, is counted and skipped so one
+ * bad record does not stop a scan of millions.
+ * Demonstrates aggregating into primitive arrays instead of per-game objects.
+ */
+public class GameRecordStats implements LongConsumer {
+    private long games;
+    private long damaged;
+    private final long[] results;
+    private final long[] lengths;
+    private final long[][] resultsByOpening;
+
+    public GameRecordStats() {
+        this.results = new long[3];
+        this.lengths = new long[Board.CELLS + 1];
+        this.resultsByOpening = new long[Board.CELLS][3];
+    }
+
+    /**
+     * Adds one record to the totals, or counts it as damaged
+     * @param record A packed record (see GameRecord)
+     */
+    @Override
+    public void accept(long record) {
+        if (!GameRecord.isValid(record)) {
+            damaged++;
+            return;
+        }
+        int result = GameRecord.result(record);
+        int count = GameRecord.moveCount(record);
+        games++;
+        results[result]++;
+        lengths[count]++;
+        if (count > 0) {
+            resultsByOpening[GameRecord.move(record, 0)][result]++;
+        }
+    }
+
+    // Getters
+    public long getGames() {
+        return games;
+    }
+
+    public long getDamagedRecords() {
+        return damaged;
+    }
+
+    public long getFirstPlayerWins() {
+        return results[GameRecord.RESULT_FIRST_WINS];
+    }
+
+    public long getSecondPlayerWins() {
+        return results[GameRecord.RESULT_SECOND_WINS];
+    }
+
+    public long getDraws() {
+        return results[GameRecord.RESULT_DRAW];
+    }
+
+    /**
+     * Gets how many games lasted a number of moves
+     * @param moves Game length, 0-9
+     * @return Number of games of that length
+     */
+    public long getGamesOfLength(int moves) {
+        return lengths[moves];
+    }
+
+    /**
+     * Gets the average game length
+     * @return Mean number of moves per game, or 0 if there are no games
+     */
+    public double getAverageLength() {
+        long total = 0;
+        for (int i = 0; i < lengths.length; i++) {
+            total += i * lengths[i];
+        }
+        return games == 0 ? 0 : (double) total / games;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("📊 %d games: first player won %d (%.1f%%), second player won %d (%.1f%%), draws %d (%.1f%%)%n",
+                games, getFirstPlayerWins(), percent(getFirstPlayerWins(), games),
+                getSecondPlayerWins(), percent(getSecondPlayerWins(), games),
+                getDraws(), percent(getDraws(), games)));
+        if (damaged > 0) {
+            report.append(String.format("⚠️ Skipped %d damaged records%n", damaged));
+        }
+        report.append(String.format("Average length: %.2f moves%n", getAverageLength()));
+        report.append("Opening move   games   first wins   second wins   draws\n");
+        for (int cell = 0; cell < Board.CELLS; cell++) {
+            long[] counts = resultsByOpening[cell];
+            long total = counts[0] + counts[1] + counts[2];
+            report.append(String.format("Row %d, Col %d %7d %11.1f%% %12.1f%% %6.1f%%%n",
+                    cell / Board.SIZE + 1, cell % Board.SIZE + 1, total,
+                    percent(counts[GameRecord.RESULT_FIRST_WINS], total),
+                    percent(counts[GameRecord.RESULT_SECOND_WINS], total),
+                    percent(counts[GameRecord.RESULT_DRAW], total)));
+        }
+        return report.toString();
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : 100.0 * part / whole;
+    }
+}
@@ -0,0 +1,109 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends game records to a file.
+ * Records collect in a direct buffer and reach the file in large writes, so
+ * recording costs a few nanoseconds per game. Records are only durable once
+ * flush or close has run. Not thread-safe: give each thread its own file.
+ * File layout: an 8-byte header ("TTTR" magic and the record size) followed
+ * by GameRecord.BYTES per game.
+ * Demonstrates buffered, append-only binary output through NIO channels.
+ */
+public class GameRecordWriter implements AutoCloseable {
+    static final int MAGIC = 0x54545452; // "TTTR"
+    static final int HEADER_BYTES = 8;
+
+    private static final int BUFFER_RECORDS = 10_922; // just under 64 KiB
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long recordCount;
+
+    /**
+     * Opens a record file for appending, creating it with a header if it is new
+     * @param path The record file
+     * @throws IOException If the file cannot be opened or is not a record file
+     */
+    public GameRecordWriter(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * GameRecord.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            openForAppend(path);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void openForAppend(Path path) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            buffer.putInt(MAGIC).putInt(GameRecord.BYTES).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+            return;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+            // keep reading until the header is complete
+        }
+        header.flip();
+        if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != GameRecord.BYTES) {
+            throw new IOException("Not a game record file: " + path);
+        }
+        // Drop any partial record left by a crash so new records stay aligned
+        long complete = (size - HEADER_BYTES) / GameRecord.BYTES;
+        channel.truncate(HEADER_BYTES + complete * GameRecord.BYTES);
+        channel.position(HEADER_BYTES + complete * GameRecord.BYTES);
+    }
+
+    /**
+     * Adds one finished game
+     * @param record A record built with GameRecord.addMove and withResult
+     * @throws IOException If the buffer had to be written and the write failed
+     */
+    public void write(long record) throws IOException {
+        if (buffer.remaining() < GameRecord.BYTES) {
+            flush();
+        }
+        GameRecord.put(buffer, record);
+        recordCount++;
+    }
+
+    /**
+     * Writes buffered records to the file
+     * @throws IOException If the write fails
+     */
+    public void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Gets the number of records written through this writer
+     * @return Records written, including any still buffered
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -3,6 +3,12 @@
  * Demonstrates abstraction through interface.
  */
 public interface GameRules {
+    /**
+     * Creates an empty board of the size these rules are played on
+     * @return A new board
+     */
+    Board createBoard();
+
     /**
      * Checks if there is a winner on the board
      * @param board The game board
@@ -17,6 +23,32 @@ public interface GameRules {
      */
     boolean isDraw(Board board);
 
+    /**
+     * Checks for a winner created by the last move.
+     * Only the lines through the given cell are examined, so callers that
+     * check after every move avoid rescanning the whole board.
+     * The default checks the whole board; rules override it to check faster.
+     * @param board The game board
+     * @param row The row index of the last move
+     * @param col The column index of the last move
+     * @return The winning symbol or ' ' if the last move did not win
+     */
+    default char checkWinner(Board board, int row, int col) {
+        return checkWinner(board);
+    }
+
+    /**
+     * Checks if the last move ended the game in a draw.
+     * The default checks the whole board; rules override it to check faster.
+     * @param board The game board
+     * @param row The row index of the last move
+     * @param col The column index of the last move
+     * @return true if the board is full and the last move did not win
+     */
+    default boolean isDraw(Board board, int row, int col) {
+        return isDraw(board);
+    }
+
     /**
      * Validates if a move is legal
      * @param board The game board
@@ -0,0 +1,225 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hosts games over TCP: every connection is a session in which a RemotePlayer
+ * plays Smart Bot. Each session is written as plain blocking code and runs on
+ * its own thread from MoveExecutor.newPerTaskExecutor, which uses virtual
+ * threads when the JVM has them, so thousands of idle sessions cost little.
+ *
+ * Session protocol, on top of the moves described in RemotePlayer:
+ *   server: WELCOME &lt;symbol&gt; &lt;size&gt; &lt;winLength&gt;
+ *   server: RESULT WIN|LOSS|DRAW, followed by the final BOARD line
+ *   client: PLAY_AGAIN or QUIT
+ *
+ * Run with: java GameServer [port] (default 4000)
+ * Demonstrates putting the existing players and rules behind a network boundary.
+ */
+public class GameServer {
+    private final int requestedPort;
+    private final GameRules rules;
+    private final AtomicInteger activeSessions;
+    private final AtomicInteger peakSessions;
+    private final AtomicLong completedSessions;
+    private final LongAdder games;
+    private final LongAdder moves;
+    private ServerSocket serverSocket;
+    private ExecutorService sessions;
+    private long startNanos;
+
+    /**
+     * Constructor for a server hosting classic games
+     * @param port Port to listen on, or 0 for any free port
+     */
+    public GameServer(int port) {
+        this(port, new TicTacToeRules());
+    }
+
+    /**
+     * Constructor for a server hosting games under specific rules
+     * @param port Port to listen on, or 0 for any free port
+     * @param rules The rules, which also decide the board size
+     */
+    public GameServer(int port, GameRules rules) {
+        this.requestedPort = port;
+        this.rules = rules;
+        this.activeSessions = new AtomicInteger();
+        this.peakSessions = new AtomicInteger();
+        this.completedSessions = new AtomicLong();
+        this.games = new LongAdder();
+        this.moves = new LongAdder();
+    }
+
+    /**
+     * Opens the listening socket and starts accepting connections in the background
+     * @throws IOException if the port cannot be opened
+     */
+    public synchronized void start() throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(requestedPort), 4096);
+        sessions = MoveExecutor.newPerTaskExecutor("game-session");
+        startNanos = System.nanoTime();
+
+        Thread acceptor = new Thread(this::acceptLoop, "game-server-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Stops accepting connections and closes the listening socket.
+     * Sessions already running are left to finish.
+     */
+    public synchronized void stop() {
+        if (serverSocket == null) {
+            return;
+        }
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // Closing anyway; nothing else to do
+        }
+        sessions.shutdown();
+    }
+
+    /**
+     * Gets the port the server is listening on
+     * @return The bound port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // Getters
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public int getPeakSessions() {
+        return peakSessions.get();
+    }
+
+    public long getCompletedSessions() {
+        return completedSessions.get();
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    /**
+     * Summarizes load since the server started
+     * @return One line with sessions, games and moves per second
+     */
+    public String getStats() {
+        double seconds = Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+        return String.format("📡 sessions active=%d peak=%d completed=%d | games=%d | moves=%d (%.0f moves/s)",
+                getActiveSessions(), getPeakSessions(), getCompletedSessions(),
+                getGames(), getMoves(), getMoves() / seconds);
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                return; // Closed by stop()
+            } catch (IOException e) {
+                System.err.println("❌ Accept failed: " + e.getMessage());
+                continue;
+            }
+            sessions.execute(() -> runSession(socket));
+        }
+    }
+
+    /**
+     * Plays games with one client until it quits or disconnects
+     */
+    private void runSession(Socket socket) {
+        peakSessions.accumulateAndGet(activeSessions.incrementAndGet(), Math::max);
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter out = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+
+            RemotePlayer remote = new RemotePlayer("Remote", 'X', in, out);
+            Player bot = new SmartComputerPlayer("Smart Bot", 'O');
+            bot.makeHeadless();
+            MatchRunner runner = new MatchRunner(remote, bot, rules);
+            Board board = runner.getBoard();
+
+            StringBuilder message = new StringBuilder(64);
+            message.append("WELCOME ").append(remote.getSymbol()).append(' ')
+                    .append(board.getSize()).append(' ').append(board.getWinLength()).append('\n');
+            remote.send(message);
+
+            while (true) {
+                char winner = runner.playGame();
+                games.increment();
+                moves.add(board.getFilledCount());
+
+                message.setLength(0);
+                message.append("RESULT ")
+                        .append(winner == ' ' ? "DRAW" : (winner == remote.getSymbol() ? "WIN" : "LOSS"))
+                        .append('\n');
+                RemotePlayer.appendBoard(message, board);
+                remote.send(message);
+
+                if (!"PLAY_AGAIN".equals(remote.readLine())) {
+                    break;
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Client went away; the session simply ends
+        } finally {
+            activeSessions.decrementAndGet();
+            completedSessions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Starts a server and prints its load every five seconds until stopped
+     * @param args Optional port (default 4000)
+     * @throws IOException if the port cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : 4000;
+        GameServer server = new GameServer(port);
+        server.start();
+        System.out.println("🎮 Game server listening on port " + server.getPort()
+                + (MoveExecutor.usesVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        while (true) {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            System.out.println(server.getStats());
+        }
+        server.stop();
+    }
+}
@@ -1,11 +1,8 @@
-import java.util.Scanner;
-
 /**
  * Represents a human player who inputs moves via console.
  * Demonstrates inheritance by extending Player class.
  */
 public class HumanPlayer extends Player {
-    private Scanner scanner;
 
     /**
      * Constructor for HumanPlayer
@@ -14,45 +11,46 @@ public class HumanPlayer extends Player {
      */
     public HumanPlayer(String name, char symbol) {
         super(name, symbol);
-        this.scanner = new Scanner(System.in);
     }
 
     /**
-     * Overrides the abstract makeMove method from Player class.
+     * Overrides selectMove from the Player class.
      * Demonstrates polymorphism through method overriding.
      * @param board The game board
-     * @return Array containing [row, col] of the move
+     * @return The chosen cell index
      */
     @Override
-    public int[] makeMove(Board board) {
+    public int selectMove(Board board) {
         int row = -1;
         int col = -1;
+        int size = board.getSize();
         boolean validInput = false;
 
         while (!validInput) {
             try {
-                System.out.print("Enter row (1-3): ");
-                row = scanner.nextInt() - 1; // Convert to 0-based index
+                System.out.print("Enter row (1-" + size + "): ");
+                row = ConsoleInput.nextInt() - 1; // Convert to 0-based index
 
-                System.out.print("Enter column (1-3): ");
-                col = scanner.nextInt() - 1; // Convert to 0-based index
+                System.out.print("Enter column (1-" + size + "): ");
+                col = ConsoleInput.nextInt() - 1; // Convert to 0-based index
 
                 // Validate the move
-                if (row >= 0 && row < 3 && col >= 0 && col < 3) {
+                if (board.isInBounds(row, col)) {
                     if (board.isCellEmpty(row, col)) {
                         validInput = true;
+                        ConsoleInput.nextLine(); // Leave nothing behind for the next prompt
                     } else {
                         System.out.println("❌ Cell already occupied! Try again.");
                     }
                 } else {
-                    System.out.println("❌ Invalid coordinates! Enter numbers between 1 and 3.");
+                    System.out.println("❌ Invalid coordinates! Enter numbers between 1 and " + size + ".");
                 }
             } catch (Exception e) {
                 System.out.println("❌ Invalid input! Please enter numbers only.");
-                scanner.nextLine(); // Clear invalid input
+                ConsoleInput.nextLine(); // Clear invalid input
             }
         }
 
-        return new int[]{row, col};
+        return row * size + col;
     }
 }
\ No newline at end of file
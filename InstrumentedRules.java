@@ -0,0 +1,70 @@
+/**
+ * Wraps another GameRules and counts and times the win and draw checks.
+ * Only used while metrics are enabled; without metrics the drivers call the
+ * plain rules and pay nothing.
+ * Demonstrates the decorator pattern through the GameRules interface.
+ */
+public class InstrumentedRules implements GameRules {
+    private final GameRules rules;
+    private final GameMetrics metrics;
+
+    /**
+     * Constructor for rules that report to a metrics registry
+     * @param rules The rules doing the real work
+     * @param metrics Where check counts and times are added
+     */
+    public InstrumentedRules(GameRules rules, GameMetrics metrics) {
+        this.rules = rules;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the wrapped rules
+     * @return The rules doing the real work
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    @Override
+    public Board createBoard() {
+        return rules.createBoard();
+    }
+
+    @Override
+    public char checkWinner(Board board) {
+        long start = System.nanoTime();
+        char winner = rules.checkWinner(board);
+        metrics.recordRuleCheck(System.nanoTime() - start);
+        return winner;
+    }
+
+    @Override
+    public boolean isDraw(Board board) {
+        long start = System.nanoTime();
+        boolean draw = rules.isDraw(board);
+        metrics.recordRuleCheck(System.nanoTime() - start);
+        return draw;
+    }
+
+    @Override
+    public char checkWinner(Board board, int row, int col) {
+        long start = System.nanoTime();
+        char winner = rules.checkWinner(board, row, col);
+        metrics.recordRuleCheck(System.nanoTime() - start);
+        return winner;
+    }
+
+    @Override
+    public boolean isDraw(Board board, int row, int col) {
+        long start = System.nanoTime();
+        boolean draw = rules.isDraw(board, row, col);
+        metrics.recordRuleCheck(System.nanoTime() - start);
+        return draw;
+    }
+
+    @Override
+    public boolean isValidMove(Board board, int row, int col) {
+        return rules.isValidMove(board, row, col);
+    }
+}
@@ -0,0 +1,211 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Hash map from non-negative int keys to float values, stored in two
+ * primitive arrays with open addressing and linear probing. No key or value
+ * is ever boxed, so an entry costs 8 bytes of array space.
+ * Not thread-safe: give each thread its own map, or copy one per thread.
+ * Saved maps are a small header followed by (key, value) pairs.
+ * Demonstrates a specialised collection for a hot lookup path.
+ */
+public final class IntFloatMap {
+    private static final int FREE = -1;
+    private static final int MAGIC = 0x49464D50; // "IFMP"
+    private static final int HEADER_BYTES = 8;
+    private static final int ENTRY_BYTES = 8;
+
+    private int[] keys;
+    private float[] values;
+    private int size;
+    private int mask;
+    private int resizeAt;
+
+    /**
+     * Constructor for an empty map
+     * @param expectedSize Entries the map should hold before it first grows
+     */
+    public IntFloatMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(8, expectedSize * 2 - 1)) << 1);
+    }
+
+    /**
+     * Gets the value stored for a key
+     * @param key A non-negative key
+     * @param missing The value to return if the key is not stored
+     * @return The stored value, or missing
+     */
+    public float get(int key, float missing) {
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            int stored = keys[slot];
+            if (stored == key) {
+                return values[slot];
+            }
+            if (stored == FREE) {
+                return missing;
+            }
+        }
+    }
+
+    /**
+     * Stores a value, replacing any previous value for the key
+     * @param key A non-negative key
+     * @param value The value
+     */
+    public void put(int key, float value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must not be negative: " + key);
+        }
+        int slot = slotOf(key);
+        while (keys[slot] != FREE && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == FREE) {
+            if (size >= resizeAt) {
+                grow();
+                put(key, value);
+                return;
+            }
+            keys[slot] = key;
+            size++;
+        }
+        values[slot] = value;
+    }
+
+    /**
+     * Creates an independent copy, for example one per training thread
+     * @return A new map with the same entries
+     */
+    public IntFloatMap copy() {
+        IntFloatMap copy = new IntFloatMap(8);
+        copy.keys = keys.clone();
+        copy.values = values.clone();
+        copy.size = size;
+        copy.mask = mask;
+        copy.resizeAt = resizeAt;
+        return copy;
+    }
+
+    /**
+     * Gets the number of slots; use with keyAt and valueAt to visit every entry
+     * @return The table capacity
+     */
+    public int slotCount() {
+        return keys.length;
+    }
+
+    /**
+     * Gets the key held in a slot
+     * @param slot Slot index, from 0 to slotCount() - 1
+     * @return The key, or -1 if the slot is empty
+     */
+    public int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Gets the value held in a slot
+     * @param slot Slot index of a slot whose key is not -1
+     * @return The value
+     */
+    public float valueAt(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Gets the heap taken by the two arrays
+     * @return Bytes used by keys and values, including empty slots
+     */
+    public long getMemoryBytes() {
+        return (long) keys.length * (Integer.BYTES + Float.BYTES);
+    }
+
+    // Getters
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes the entries to a file, sorted by key
+     * @param path Destination file
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        long[] entries = new long[size];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != FREE) {
+                entries[count++] = (long) keys[slot] << 32 | (Float.floatToRawIntBits(values[slot]) & 0xFFFFFFFFL);
+            }
+        }
+        Arrays.sort(entries);
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + size * ENTRY_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(size);
+        for (long entry : entries) {
+            out.putLong(entry);
+        }
+        out.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Reads a map written by save
+     * @param path The file
+     * @return The loaded map
+     * @throws IOException If the file cannot be read or is not a saved map
+     */
+    public static IntFloatMap load(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+                throw new IOException("Not a saved value table: " + path);
+            }
+            int count = in.getInt();
+            if (count < 0 || in.remaining() < (long) count * ENTRY_BYTES) {
+                throw new IOException("Damaged value table: " + path);
+            }
+            IntFloatMap map = new IntFloatMap(count);
+            for (int i = 0; i < count; i++) {
+                long entry = in.getLong();
+                map.put((int) (entry >>> 32), Float.intBitsToFloat((int) entry));
+            }
+            return map;
+        }
+    }
+
+    private int slotOf(int key) {
+        int hash = key * 0x9E3779B1;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new float[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        resizeAt = capacity / 2;
+        size = 0;
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        float[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int slot = 0; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != FREE) {
+                put(oldKeys[slot], oldValues[slot]);
+            }
+        }
+    }
+}
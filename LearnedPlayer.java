@@ -0,0 +1,153 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer player that plays from a table of learned position values.
+ * The table holds, for every position it has seen, an estimate of how likely
+ * the player who just moved is to win (1 = win, 0.5 = draw, 0 = loss).
+ * Positions are keyed by BoardSymmetry's canonical key from the mover's side,
+ * so X and O share one table and symmetric positions share one entry.
+ * A move is chosen by looking up the position each empty cell would lead to.
+ * While training (see SelfPlayTrainer) the player also explores at random and
+ * moves each value toward the value of the next position it reaches: TD(0)
+ * learning on the positions after its own moves.
+ * Demonstrates inheritance with a strategy that improves with experience.
+ */
+public class LearnedPlayer extends Player {
+    /** Value assumed for a position that is not in the table yet. */
+    public static final float UNKNOWN_VALUE = 0.5f;
+
+    private final IntFloatMap values;
+    private final RandomGenerator random;
+    private float learningRate;
+    private float explorationRate;
+    private int previousKey = -1;
+    private float chosenValue;
+
+    /**
+     * Constructor for a player that plays greedily from a trained table
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param values Learned values; updated in place while training
+     * @param random Source used for exploration and to choose between equal moves
+     */
+    public LearnedPlayer(String name, char symbol, IntFloatMap values, RandomGenerator random) {
+        super(name, symbol);
+        this.values = values;
+        this.random = random;
+        setPacing(MovePacing.fixed(1000));
+        setMoveListener(ConsoleMoveListener.INSTANCE);
+    }
+
+    /**
+     * Turns learning on or off
+     * @param learningRate Step size of each value update, or 0 to stop learning
+     * @param explorationRate Share of moves played at random to discover new positions
+     */
+    public void setTraining(float learningRate, float explorationRate) {
+        this.learningRate = learningRate;
+        this.explorationRate = explorationRate;
+        this.previousKey = -1;
+    }
+
+    @Override
+    public int selectMove(Board board) {
+        int cell = chooseMove(board);
+        return reveal(board, cell, "is recalling what it learned...", (chosenValue >= 1f) ? "is going for the win!" : null);
+    }
+
+    @Override
+    public CompletableFuture<Integer> selectMoveAsync(Board board) {
+        int cell = chooseMove(board);
+        return revealAsync(board, cell, "is recalling what it learned...",
+                (chosenValue >= 1f) ? "is going for the win!" : null);
+    }
+
+    /**
+     * Tells a training player how the game ended, so its last position is updated too
+     * @param reward 1 for a win, 0.5 for a draw, 0 for a loss
+     */
+    public void gameOver(float reward) {
+        if (learningRate > 0 && previousKey >= 0) {
+            learn(previousKey, reward);
+        }
+        previousKey = -1;
+    }
+
+    /**
+     * Gets the table key of a position from the side of the player who just moved
+     * @param own Cells held by the player who just moved
+     * @param opp Cells held by the other player
+     * @return The canonical 18-bit key
+     */
+    public static int positionKey(int own, int opp) {
+        return BoardSymmetry.canonicalKey(BoardSymmetry.canonicalize(own, opp));
+    }
+
+    /**
+     * Picks the empty cell leading to the highest value, or a random one when exploring
+     */
+    private int chooseMove(Board board) {
+        if (!board.isClassic()) {
+            throw new IllegalArgumentException("LearnedPlayer only plays the classic 3x3 board");
+        }
+        char opponent = (getSymbol() == 'X') ? 'O' : 'X';
+        int own = board.getBits(getSymbol());
+        int opp = board.getBits(opponent);
+        int empty = ~(own | opp) & Board.FULL_MASK;
+        boolean explore = explorationRate > 0 && random.nextFloat() < explorationRate;
+
+        int bestCell = -1;
+        int bestKey = -1;
+        float bestValue = -1f;
+        int ties = 0;
+        int seen = 0;
+        for (int cell = 0; cell < Board.CELLS; cell++) {
+            int bit = 1 << cell;
+            if ((empty & bit) == 0) {
+                continue;
+            }
+            int key = positionKey(own | bit, opp);
+            float value = completesLine(own | bit) ? 1f : values.get(key, UNKNOWN_VALUE);
+            if (explore) {
+                // Pick uniformly among the empty cells
+                if (random.nextInt(++seen) == 0) {
+                    bestCell = cell;
+                    bestKey = key;
+                    bestValue = value;
+                }
+            } else if (value > bestValue) {
+                bestValue = value;
+                bestCell = cell;
+                bestKey = key;
+                ties = 1;
+            } else if (value == bestValue && random.nextInt(++ties) == 0) {
+                bestCell = cell;
+                bestKey = key;
+            }
+        }
+        if (learningRate > 0) {
+            // Random moves say nothing about how good the previous position was
+            if (previousKey >= 0 && !explore) {
+                learn(previousKey, bestValue);
+            }
+            previousKey = bestKey;
+        }
+        chosenValue = bestValue;
+        return bestCell;
+    }
+
+    private void learn(int key, float target) {
+        float value = values.get(key, UNKNOWN_VALUE);
+        values.put(key, value + learningRate * (target - value));
+    }
+
+    private static boolean completesLine(int bits) {
+        for (int mask : Board.WIN_MASKS) {
+            if ((bits & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
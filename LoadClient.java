@@ -0,0 +1,200 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load generator for GameServer. Opens many connections, waits until all of
+ * them are connected, then has each play a number of games with random moves.
+ * Reports how many sessions were open at once, moves per second and the
+ * round-trip time of a move: from sending MOVE to receiving the server's answer,
+ * which includes the bot's reply.
+ * Run with: java LoadClient [sessions] [gamesPerSession] [host:port]
+ * Without host:port an embedded server is started on a free local port.
+ * Demonstrates measuring a server from the outside, the way its users see it.
+ */
+public class LoadClient {
+    private final String host;
+    private final int port;
+    private final LatencyHistogram roundTrip;
+    private final AtomicInteger connected;
+    private final AtomicInteger peakConnected;
+    private final AtomicInteger failures;
+    private final LongAdder moves;
+
+    /**
+     * Constructor for a client aimed at one server
+     * @param host Server host name
+     * @param port Server port
+     */
+    public LoadClient(String host, int port) {
+        this.host = host;
+        this.port = port;
+        this.roundTrip = new LatencyHistogram();
+        this.connected = new AtomicInteger();
+        this.peakConnected = new AtomicInteger();
+        this.failures = new AtomicInteger();
+        this.moves = new LongAdder();
+    }
+
+    /**
+     * Runs the load and prints a report
+     * @param sessions Number of simultaneous connections
+     * @param gamesPerSession Games each connection plays before quitting
+     * @throws InterruptedException if interrupted while waiting for sessions
+     */
+    public void run(int sessions, int gamesPerSession) throws InterruptedException {
+        CountDownLatch allConnected = new CountDownLatch(sessions);
+        CountDownLatch finished = new CountDownLatch(sessions);
+        SplittableRandom seeds = new SplittableRandom();
+        ExecutorService executor = MoveExecutor.newPerTaskExecutor("load-client");
+
+        for (int i = 0; i < sessions; i++) {
+            SplittableRandom random = seeds.split();
+            executor.execute(() -> {
+                try {
+                    playSession(gamesPerSession, random, allConnected);
+                } catch (IOException | RuntimeException e) {
+                    failures.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        allConnected.await();
+        long start = System.nanoTime();
+        finished.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        long totalMoves = moves.sum();
+        System.out.printf("🔌 Sessions: %d requested, %d concurrent at peak, %d failed%n",
+                sessions, peakConnected.get(), failures.get());
+        System.out.printf("⚡ Moves: %d in %.2f s (%.0f moves/s)%n", totalMoves, seconds, totalMoves / seconds);
+        synchronized (roundTrip) {
+            System.out.printf("⏱️ Round trip: mean %.1f µs, p50 %.1f µs, p99 %.1f µs, max %.1f µs%n",
+                    roundTrip.getMean() / 1000.0,
+                    roundTrip.getValueAtPercentile(50) / 1000.0,
+                    roundTrip.getValueAtPercentile(99) / 1000.0,
+                    roundTrip.getMax() / 1000.0);
+        }
+    }
+
+    /**
+     * Connects, waits for every other session, then plays random moves until done
+     */
+    private void playSession(int games, SplittableRandom random, CountDownLatch allConnected)
+            throws IOException, InterruptedException {
+        Socket socket;
+        try {
+            socket = new Socket(host, port);
+        } finally {
+            allConnected.countDown();
+        }
+        peakConnected.accumulateAndGet(connected.incrementAndGet(), Math::max);
+        LatencyHistogram latency = new LatencyHistogram();
+        long sessionMoves = 0;
+        try (socket) {
+            allConnected.await();
+            socket.setTcpNoDelay(true);
+            BufferedReader in = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            BufferedWriter out = new BufferedWriter(
+                    new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII));
+
+            String board = "";
+            long sentAt = 0;
+            int played = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (sentAt != 0 && !line.startsWith("YOUR_MOVE")) {
+                    latency.record(System.nanoTime() - sentAt);
+                    sentAt = 0;
+                }
+                if (line.startsWith("BOARD ")) {
+                    board = line.substring(6);
+                } else if (line.equals("YOUR_MOVE") || line.equals("INVALID")) {
+                    out.write("MOVE " + randomEmptyCell(board, random) + "\n");
+                    out.flush();
+                    sessionMoves++;
+                    sentAt = System.nanoTime();
+                } else if (line.startsWith("RESULT ")) {
+                    played++;
+                    in.readLine(); // final board
+                    out.write(played < games ? "PLAY_AGAIN\n" : "QUIT\n");
+                    out.flush();
+                    if (played >= games) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            connected.decrementAndGet();
+            moves.add(sessionMoves);
+            synchronized (roundTrip) {
+                roundTrip.add(latency);
+            }
+        }
+    }
+
+    private static int randomEmptyCell(String board, SplittableRandom random) {
+        int empty = 0;
+        for (int i = 0; i < board.length(); i++) {
+            if (board.charAt(i) == '.') {
+                empty++;
+            }
+        }
+        int pick = random.nextInt(Math.max(1, empty));
+        for (int i = 0; i < board.length(); i++) {
+            if (board.charAt(i) == '.' && pick-- == 0) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Runs the load generator
+     * @param args Optional sessions (default 1000), games per session (default 20)
+     *             and host:port of a running server
+     * @throws Exception if the embedded server cannot start or the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        int sessions = (args.length > 0) ? Integer.parseInt(args[0]) : 1000;
+        int gamesPerSession = (args.length > 1) ? Integer.parseInt(args[1]) : 20;
+
+        GameServer embedded = null;
+        String host = "localhost";
+        int port;
+        if (args.length > 2) {
+            int colon = args[2].lastIndexOf(':');
+            host = args[2].substring(0, colon);
+            port = Integer.parseInt(args[2].substring(colon + 1));
+        } else {
+            embedded = new GameServer(0);
+            embedded.start();
+            port = embedded.getPort();
+            System.out.println("🎮 Embedded server on port " + port
+                    + (MoveExecutor.usesVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+        }
+
+        new LoadClient(host, port).run(sessions, gamesPerSession);
+        if (embedded != null) {
+            System.out.println(embedded.getStats());
+            embedded.stop();
+        }
+    }
+}
@@ -0,0 +1,461 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.random.RandomGenerator;
+
+/**
+ * Computer player that chooses moves by Monte Carlo Tree Search.
+ * Each move gets a fixed time and/or iteration budget instead of a fixed sleep.
+ * Search is root-parallel: every thread grows its own tree from the current
+ * position, and the visit counts of the root moves are summed to pick the move.
+ * Tree nodes live in preallocated arrays that are reused from move to move,
+ * so an iteration allocates nothing. Works on any board size, which makes it
+ * usable on the larger variants where exhaustive search is out of reach.
+ * A player searching on more than one thread owns a thread pool; close it
+ * when the player is no longer needed.
+ * Demonstrates inheritance and a third, very different move strategy.
+ */
+public class MCTSPlayer extends Player implements AutoCloseable {
+    /** Default number of tree nodes each search thread can hold. */
+    public static final int DEFAULT_NODE_CAPACITY = 1 << 18;
+
+    private static final double EXPLORATION = 1.41;
+
+    private final long timeBudgetNanos;
+    private final long iterationBudget;
+    private final SearchTree[] trees;
+    private final ExecutorService pool;
+    private int[] rootVisits = new int[0];
+
+    private long lastIterations;
+    private long lastSearchNanos;
+    private long totalIterations;
+    private long totalSearchNanos;
+
+    /**
+     * Constructor for an MCTS player that thinks for one second per move on every core
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     */
+    public MCTSPlayer(String name, char symbol) {
+        this(name, symbol, 1000, 0, Runtime.getRuntime().availableProcessors(), Seeds.newRandom());
+    }
+
+    /**
+     * Constructor with explicit budgets and thread count.
+     * The search stops at whichever budget runs out first; use 0 to disable one of them.
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param timeBudgetMillis Thinking time per move in milliseconds, or 0 for no time limit
+     * @param iterationBudget Total iterations per move across all threads, or 0 for no limit
+     * @param threads Number of search threads (1 searches on the calling thread)
+     * @param random Source of the seeds for each thread's random generator
+     */
+    public MCTSPlayer(String name, char symbol, long timeBudgetMillis, long iterationBudget,
+                      int threads, RandomGenerator random) {
+        super(name, symbol);
+        setMoveListener(ConsoleMoveListener.INSTANCE);
+        if (timeBudgetMillis <= 0 && iterationBudget <= 0) {
+            throw new IllegalArgumentException("MCTSPlayer needs a time or iteration budget");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("MCTSPlayer needs at least one thread");
+        }
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.iterationBudget = iterationBudget;
+        SplittableRandom seeds = new SplittableRandom(random.nextLong());
+        this.trees = new SearchTree[threads];
+        for (int i = 0; i < threads; i++) {
+            trees[i] = new SearchTree(DEFAULT_NODE_CAPACITY, seeds.split());
+        }
+        this.pool = (threads > 1) ? Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-mcts");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Overrides selectMove with a budgeted Monte Carlo Tree Search.
+     * Strategy: UCT selection, full expansion, random playouts; the root move
+     * with the most visits across all threads is played.
+     */
+    @Override
+    public int selectMove(Board board) {
+        MoveListener listener = getMoveListener();
+        if (listener != null) {
+            listener.thinking(this, "is running simulations...");
+        }
+
+        long start = System.nanoTime();
+        long deadline = (timeBudgetNanos > 0) ? start + timeBudgetNanos : Long.MAX_VALUE;
+        long perTree = (iterationBudget > 0) ? (iterationBudget + trees.length - 1) / trees.length : Long.MAX_VALUE;
+        // Search threads start from an immutable copy and never read the caller's board
+        BoardSnapshot root = board.snapshot();
+        for (SearchTree tree : trees) {
+            tree.prepare(root, getSymbol(), deadline, perTree);
+        }
+
+        if (pool == null) {
+            trees[0].call();
+        } else {
+            search();
+        }
+
+        int cells = board.getCellCount();
+        if (rootVisits.length != cells) {
+            rootVisits = new int[cells];
+        }
+        Arrays.fill(rootVisits, 0);
+        long iterations = 0;
+        for (SearchTree tree : trees) {
+            tree.addRootVisits(rootVisits);
+            iterations += tree.iterations;
+        }
+
+        int bestCell = -1;
+        for (int cell = 0; cell < cells; cell++) {
+            if (board.isCellEmpty(cell) && (bestCell < 0 || rootVisits[cell] > rootVisits[bestCell])) {
+                bestCell = cell;
+            }
+        }
+
+        lastSearchNanos = System.nanoTime() - start;
+        lastIterations = iterations;
+        totalIterations += iterations;
+        totalSearchNanos += lastSearchNanos;
+
+        getPacing().pause();
+        if (listener != null) {
+            listener.remark(this, String.format("ran %d simulations (%.0f/s)", iterations, getLastIterationsPerSecond()));
+            listener.moveChosen(this, board, bestCell);
+        }
+        return bestCell;
+    }
+
+    /**
+     * Shuts down the search threads. A multi-threaded player cannot move after
+     * this; a player created with one thread has no threads to shut down.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs every tree on the pool and waits until all of them have stopped, so
+     * no search thread is still writing a tree when the visits are summed or the
+     * trees are prepared for the next move. If the caller is interrupted the
+     * trees are told to stop, and the best move found so far is played.
+     */
+    private void search() {
+        List<Future<Void>> futures = new ArrayList<>(trees.length);
+        for (SearchTree tree : trees) {
+            futures.add(pool.submit(tree));
+        }
+        boolean interrupted = false;
+        Throwable failure = null;
+        for (Future<Void> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    stopAll();
+                } catch (ExecutionException e) {
+                    failure = e.getCause();
+                    stopAll();
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new IllegalStateException("MCTS search failed", failure);
+        }
+    }
+
+    private void stopAll() {
+        for (SearchTree tree : trees) {
+            tree.stopped = true;
+        }
+    }
+
+    public long getLastIterations() {
+        return lastIterations;
+    }
+
+    public long getTotalIterations() {
+        return totalIterations;
+    }
+
+    /**
+     * Overrides getNodesSearched with the simulations run so far
+     * @return Total iterations across all moves
+     */
+    @Override
+    public long getNodesSearched() {
+        return totalIterations;
+    }
+
+    /**
+     * Gets the search speed of the last move
+     * @return Iterations per second across all threads
+     */
+    public double getLastIterationsPerSecond() {
+        return (lastSearchNanos == 0) ? 0 : lastIterations * 1e9 / lastSearchNanos;
+    }
+
+    /**
+     * Gets the average search speed since this player was created
+     * @return Iterations per second across all threads
+     */
+    public double getIterationsPerSecond() {
+        return (totalSearchNanos == 0) ? 0 : totalIterations * 1e9 / totalSearchNanos;
+    }
+
+    private static char other(char symbol) {
+        return (symbol == 'X') ? 'O' : 'X';
+    }
+
+    /**
+     * One search tree and its node pool. Used by a single thread at a time.
+     */
+    private static final class SearchTree implements Callable<Void> {
+        private static final byte UNKNOWN = 0;
+        private static final byte ONGOING = 1;
+        private static final byte WON = 2;  // the player who moved into the node won
+        private static final byte DRAWN = 3;
+
+        private final int capacity;
+        private final int[] parent;
+        private final int[] firstChild;
+        private final int[] childCount;
+        private final int[] move;
+        private final int[] visits;
+        private final float[] wins; // from the point of view of the player who moved into the node
+        private final byte[] state;
+        private final SplittableRandom random;
+        private int nodeCount;
+
+        private BoardSnapshot root;
+        private Board scratch;
+        private char rootSymbol;
+        private long deadline;
+        private long maxIterations;
+        private long iterations;
+        volatile boolean stopped;
+
+        SearchTree(int capacity, SplittableRandom random) {
+            this.capacity = capacity;
+            this.parent = new int[capacity];
+            this.firstChild = new int[capacity];
+            this.childCount = new int[capacity];
+            this.move = new int[capacity];
+            this.visits = new int[capacity];
+            this.wins = new float[capacity];
+            this.state = new byte[capacity];
+            this.random = random;
+        }
+
+        /**
+         * Resets the pool to a single root node for a new move
+         */
+        void prepare(BoardSnapshot board, char symbol, long deadline, long maxIterations) {
+            if (scratch == null || scratch.getSize() != board.getSize() || scratch.getWinLength() != board.getWinLength()) {
+                scratch = new Board(board.getSize(), board.getWinLength());
+            }
+            this.root = board;
+            this.rootSymbol = symbol;
+            this.deadline = deadline;
+            this.maxIterations = maxIterations;
+            this.iterations = 0;
+            this.stopped = false;
+            nodeCount = 1;
+            parent[0] = -1;
+            childCount[0] = 0;
+            move[0] = -1;
+            visits[0] = 0;
+            wins[0] = 0;
+            state[0] = ONGOING;
+        }
+
+        @Override
+        public Void call() {
+            // Check the clock and for a stop request every 16 iterations to keep them off the hot path
+            while (iterations < maxIterations && ((iterations & 15) != 0 || (System.nanoTime() < deadline
+                    && !stopped && !Thread.currentThread().isInterrupted()))) {
+                iterate();
+                iterations++;
+            }
+            return null;
+        }
+
+        void addRootVisits(int[] totals) {
+            for (int c = firstChild[0], end = c + childCount[0]; c < end; c++) {
+                totals[move[c]] += visits[c];
+            }
+        }
+
+        /**
+         * One select / expand / simulate / backpropagate pass
+         */
+        private void iterate() {
+            scratch.copyFrom(root);
+            int node = 0;
+            char toMove = rootSymbol;
+
+            while (true) {
+                if (childCount[node] == 0) {
+                    // Play out from leaves on their first visit; expand them on the next
+                    if ((node != 0 && visits[node] == 0) || !expand(node)) {
+                        break;
+                    }
+                }
+                node = selectChild(node);
+                char mover = toMove;
+                scratch.makeMove(move[node], mover);
+                toMove = other(toMove);
+                if (state[node] == UNKNOWN) {
+                    state[node] = evaluate(mover, move[node]);
+                }
+                if (state[node] != ONGOING) {
+                    break;
+                }
+            }
+
+            char winner;
+            if (state[node] == WON) {
+                winner = other(toMove);
+            } else if (state[node] == DRAWN) {
+                winner = ' ';
+            } else {
+                winner = playout(toMove);
+            }
+
+            char mover = other(toMove);
+            for (int n = node; n >= 0; n = parent[n]) {
+                visits[n]++;
+                if (winner == mover) {
+                    wins[n] += 1f;
+                } else if (winner == ' ') {
+                    wins[n] += 0.5f;
+                }
+                mover = other(mover);
+            }
+        }
+
+        /**
+         * Adds one child per empty cell, in random order
+         * @return false if the pool is full or there are no empty cells
+         */
+        private boolean expand(int node) {
+            int empty = scratch.getCellCount() - scratch.getFilledCount();
+            if (empty == 0 || nodeCount + empty > capacity) {
+                return false;
+            }
+            int start = nodeCount;
+            for (int cell = 0; cell < scratch.getCellCount(); cell++) {
+                if (scratch.isCellEmpty(cell)) {
+                    int child = nodeCount++;
+                    parent[child] = node;
+                    childCount[child] = 0;
+                    move[child] = cell;
+                    visits[child] = 0;
+                    wins[child] = 0;
+                    state[child] = UNKNOWN;
+                }
+            }
+            for (int i = empty - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int swap = move[start + i];
+                move[start + i] = move[start + j];
+                move[start + j] = swap;
+            }
+            firstChild[node] = start;
+            childCount[node] = empty;
+            return true;
+        }
+
+        /**
+         * Picks the child with the highest UCT score; unvisited children come first
+         */
+        private int selectChild(int node) {
+            int first = firstChild[node];
+            int end = first + childCount[node];
+            double logVisits = Math.log(Math.max(1, visits[node]));
+            int best = first;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int c = first; c < end; c++) {
+                if (visits[c] == 0) {
+                    return c;
+                }
+                double score = wins[c] / visits[c] + EXPLORATION * Math.sqrt(logVisits / visits[c]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = c;
+                }
+            }
+            return best;
+        }
+
+        private byte evaluate(char mover, int cell) {
+            int size = scratch.getSize();
+            if (scratch.hasWonThrough(mover, cell / size, cell % size)) {
+                return WON;
+            }
+            return scratch.isFull() ? DRAWN : ONGOING;
+        }
+
+        /**
+         * Plays random moves on the scratch board until the game ends
+         * @return The winning symbol, or ' ' for a draw
+         */
+        private char playout(char toMove) {
+            int cells = scratch.getCellCount();
+            int size = scratch.getSize();
+            while (!scratch.isFull()) {
+                int cell;
+                do {
+                    cell = random.nextInt(cells);
+                } while (!scratch.isCellEmpty(cell));
+                scratch.makeMove(cell, toMove);
+                if (scratch.hasWonThrough(toMove, cell / size, cell % size)) {
+                    return toMove;
+                }
+                toMove = other(toMove);
+            }
+            return ' ';
+        }
+    }
+
+    /**
+     * Plays MCTS against the Smart Bot headlessly and reports results and search speed
+     * @param args Optional board size, win length, games and iterations per move
+     */
+    public static void main(String[] args) {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : 3;
+        int winLength = (args.length > 1) ? Integer.parseInt(args[1]) : size;
+        long games = (args.length > 2) ? Long.parseLong(args[2]) : 100;
+        long iterations = (args.length > 3) ? Long.parseLong(args[3]) : 20_000;
+
+        try (MCTSPlayer mcts = new MCTSPlayer("MCTS", 'X', 0, iterations,
+                Runtime.getRuntime().availableProcessors(), Seeds.newRandom())) {
+            MatchRunner runner = new MatchRunner(mcts, new SmartComputerPlayer("Smart Bot", 'O'),
+                    new TicTacToeRules(size, winLength));
+            System.out.println(runner.run(games));
+            System.out.printf("MCTS search speed: %.0f iterations/s%n", mcts.getIterationsPerSecond());
+        }
+    }
+}
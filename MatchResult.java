@@ -0,0 +1,76 @@
+/**
+ * Totals from a batch of games between two players.
+ * Demonstrates a simple value object returned by a long-running operation.
+ */
+public class MatchResult {
+    private final String player1Name;
+    private final String player2Name;
+    private final long player1Wins;
+    private final long player2Wins;
+    private final long draws;
+    private final long elapsedNanos;
+    private final LatencyHistogram moveLatency;
+
+    /**
+     * Constructor for a finished batch
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param player1Wins Games won by the first player
+     * @param player2Wins Games won by the second player
+     * @param draws Games drawn
+     * @param elapsedNanos Wall-clock time for the batch
+     * @param moveLatency Time each selectMove call took, in nanoseconds
+     */
+    public MatchResult(String player1Name, String player2Name, long player1Wins, long player2Wins,
+                       long draws, long elapsedNanos, LatencyHistogram moveLatency) {
+        this.player1Name = player1Name;
+        this.player2Name = player2Name;
+        this.player1Wins = player1Wins;
+        this.player2Wins = player2Wins;
+        this.draws = draws;
+        this.elapsedNanos = elapsedNanos;
+        this.moveLatency = moveLatency;
+    }
+
+    public long getPlayer1Wins() {
+        return player1Wins;
+    }
+
+    public long getPlayer2Wins() {
+        return player2Wins;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    public long getGames() {
+        return player1Wins + player2Wins + draws;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    /**
+     * Gets the throughput of the batch
+     * @return Games completed per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return (elapsedNanos == 0) ? 0 : getGames() * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games: %s won %d, %s won %d, %d draws%n"
+                        + "%.0f games/s over %.2f s%n"
+                        + "Move latency (%d moves): %s",
+                getGames(), player1Name, player1Wins, player2Name, player2Wins, draws,
+                getGamesPerSecond(), elapsedNanos / 1e9,
+                moveLatency.getCount(), moveLatency.summaryMicros());
+    }
+}
@@ -0,0 +1,215 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+/**
+ * Plays many games between two players with no console I/O and no thinking delays.
+ * Used to evaluate bots against each other before they are put in front of people.
+ * Demonstrates reusing the same Player and GameRules abstractions as Game
+ * in a different driver.
+ */
+public class MatchRunner {
+    private final Player player1;
+    private final Player player2;
+    private final GameRules baseRules;
+    private GameRules rules;
+    private final Board board;
+    private final LatencyHistogram moveLatency;
+    private GameRecordWriter recorder;
+    private GameMetrics metrics;
+    private PlayerMetrics metrics1;
+    private PlayerMetrics metrics2;
+
+    /**
+     * Constructor for a runner on the classic board
+     * @param player1 First player, who moves first in every game
+     * @param player2 Second player
+     */
+    public MatchRunner(Player player1, Player player2) {
+        this(player1, player2, new TicTacToeRules());
+    }
+
+    /**
+     * Constructor for a runner under specific rules
+     * @param player1 First player, who moves first in every game
+     * @param player2 Second player
+     * @param rules The rules, which also decide the board size
+     */
+    public MatchRunner(Player player1, Player player2, GameRules rules) {
+        if (player1.getSymbol() == player2.getSymbol()) {
+            throw new IllegalArgumentException("Players must use different symbols");
+        }
+        this.player1 = player1;
+        this.player2 = player2;
+        this.baseRules = rules;
+        this.rules = rules;
+        this.board = rules.createBoard();
+        this.moveLatency = new LatencyHistogram();
+        setMetrics(GameMetrics.current());
+    }
+
+    /**
+     * Sets where games, moves and rule checks are reported.
+     * Runners pick up GameMetrics.current() when created.
+     * @param metrics The registry, or null to report nothing
+     */
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+        this.rules = (metrics == null) ? baseRules : metrics.instrument(baseRules);
+        this.metrics1 = (metrics == null) ? null : metrics.player(player1);
+        this.metrics2 = (metrics == null) ? null : metrics.player(player2);
+    }
+
+    /**
+     * Plays a batch of games. Both players have their pacing and move listener
+     * removed for the duration of the batch and restored afterwards.
+     * @param games Number of games to play
+     * @return Win/draw/loss counts, throughput and move latency for the batch
+     */
+    public MatchResult run(long games) {
+        MovePacing pacing1 = player1.getPacing();
+        MovePacing pacing2 = player2.getPacing();
+        MoveListener listener1 = player1.getMoveListener();
+        MoveListener listener2 = player2.getMoveListener();
+        player1.makeHeadless();
+        player2.makeHeadless();
+        moveLatency.reset();
+
+        long wins1 = 0;
+        long wins2 = 0;
+        long draws = 0;
+        long start = System.nanoTime();
+        try {
+            for (long g = 0; g < games; g++) {
+                char winner = playGame();
+                if (winner == player1.getSymbol()) {
+                    wins1++;
+                } else if (winner == player2.getSymbol()) {
+                    wins2++;
+                } else {
+                    draws++;
+                }
+            }
+        } finally {
+            player1.setPacing(pacing1);
+            player2.setPacing(pacing2);
+            player1.setMoveListener(listener1);
+            player2.setMoveListener(listener2);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        LatencyHistogram latency = new LatencyHistogram();
+        latency.add(moveLatency);
+        return new MatchResult(player1.getName(), player2.getName(), wins1, wins2, draws, elapsed, latency);
+    }
+
+    /**
+     * Gets the move latencies recorded since the last call to run.
+     * Useful when driving the runner game by game with playGame.
+     * @return The live histogram owned by this runner
+     */
+    public LatencyHistogram getMoveLatency() {
+        return moveLatency;
+    }
+
+    /**
+     * Sets where finished games are recorded
+     * @param recorder Writer that receives one record per game, or null to stop recording
+     */
+    public void setRecorder(GameRecordWriter recorder) {
+        if (recorder != null && !board.isClassic()) {
+            throw new IllegalArgumentException("Game records only cover the classic 3x3 board");
+        }
+        this.recorder = recorder;
+    }
+
+    /**
+     * Gets the board of the game in progress, or of the last game once it has ended
+     * @return The live board owned by this runner
+     */
+    public Board getBoard() {
+        return board;
+    }
+
+    /**
+     * Plays one game on the runner's board
+     * @return The winning symbol, or ' ' for a draw
+     * @throws UncheckedIOException if a recorder is set and the record cannot be written
+     */
+    public char playGame() {
+        board.reset();
+        Player current = player1;
+        long record = GameRecord.EMPTY;
+        while (true) {
+            long nodesBefore = (metrics == null) ? 0 : current.getNodesSearched();
+            long moveStart = System.nanoTime();
+            int cell = current.selectMove(board);
+            long moveNanos = System.nanoTime() - moveStart;
+            moveLatency.record(moveNanos);
+            if (metrics != null) {
+                (current == player1 ? metrics1 : metrics2)
+                        .recordMove(moveNanos, current.getNodesSearched() - nodesBefore);
+            }
+
+            int row = cell / board.getSize();
+            int col = cell % board.getSize();
+            if (!rules.isValidMove(board, row, col)) {
+                throw new IllegalStateException(current.getName() + " played an illegal move: " + row + ", " + col);
+            }
+            board.makeMove(row, col, current.getSymbol());
+            if (recorder != null) {
+                record = GameRecord.addMove(record, cell);
+            }
+
+            char winner = rules.checkWinner(board, row, col);
+            if (winner != ' ') {
+                record(record, winner == player1.getSymbol()
+                        ? GameRecord.RESULT_FIRST_WINS : GameRecord.RESULT_SECOND_WINS);
+                if (metrics != null) {
+                    metrics.recordGame(winner, board.getFilledCount());
+                }
+                return winner;
+            }
+            if (rules.isDraw(board, row, col)) {
+                record(record, GameRecord.RESULT_DRAW);
+                if (metrics != null) {
+                    metrics.recordGame(' ', board.getFilledCount());
+                }
+                return ' ';
+            }
+            current = (current == player1) ? player2 : player1;
+        }
+    }
+
+    private void record(long record, int result) {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.write(GameRecord.withResult(record, result));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs Smart Bot against the random Computer and prints the report
+     * @param args Optional number of games (default 100000) and a file to append
+     *             the measured games to, for reading back with GameRecordReader
+     * @throws IOException if the record file cannot be opened or written
+     */
+    public static void main(String[] args) throws IOException {
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 100_000;
+        MatchRunner runner = new MatchRunner(new SmartComputerPlayer("Smart Bot", 'X'), new ComputerPlayer("Computer", 'O'));
+        runner.run(Math.min(games, 10_000)); // warm up
+        if (args.length > 1) {
+            try (GameRecordWriter recorder = new GameRecordWriter(Paths.get(args[1]))) {
+                runner.setRecorder(recorder);
+                System.out.println(runner.run(games));
+                System.out.println("📝 Recorded " + recorder.getRecordCount() + " games to " + args[1]);
+            }
+        } else {
+            System.out.println(runner.run(games));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Shared executor for running blocking, synchronous move code off the game loop.
+ * Uses one virtual thread per task when the JVM supports them (Java 21+),
+ * otherwise a cached pool of daemon threads.
+ * Demonstrates choosing an implementation at runtime without changing callers.
+ */
+public final class MoveExecutor {
+    private static final Executor INSTANCE = newPerTaskExecutor("move-executor");
+
+    private MoveExecutor() {
+    }
+
+    /**
+     * Gets the shared executor
+     * @return The executor used to adapt synchronous players
+     */
+    public static Executor get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks which kind of threads run blocking moves
+     * @return true if each task runs on its own virtual thread
+     */
+    public static boolean usesVirtualThreads() {
+        return !(INSTANCE instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Creates an executor that runs every task on its own thread: a virtual
+     * thread when the JVM supports them, otherwise a pooled daemon thread.
+     * Suited to tasks that spend most of their time blocked, such as socket sessions.
+     * @param threadName Name given to pooled threads
+     * @return A new executor; shut it down when finished
+     */
+    public static ExecutorService newPerTaskExecutor(String threadName) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Receives what a computer player is doing so it can be shown to people.
+ * Players without a listener build no messages at all, which keeps
+ * simulations free of string work and console I/O.
+ * Demonstrates the observer pattern through an interface.
+ */
+public interface MoveListener {
+    /**
+     * Called when a player starts working on a move
+     * @param player The player
+     * @param activity What the player is doing, for example "is thinking..."
+     */
+    void thinking(Player player, String activity);
+
+    /**
+     * Called when a player's move is revealed
+     * @param player The player
+     * @param board The board the move will be played on
+     * @param cell The chosen cell index
+     */
+    void moveChosen(Player player, Board board, int cell);
+
+    /**
+     * Called with extra commentary about a move, before it is revealed
+     * @param player The player
+     * @param remark The remark, for example "is going for the win!"
+     */
+    default void remark(Player player, String remark) {
+    }
+}
@@ -0,0 +1,74 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+
+/**
+ * Decides how long a computer player appears to think before its move is revealed.
+ * Synchronous play sleeps for the delay (pause); selectMoveAsync uses delay,
+ * which completes on a timer and never holds a thread, so the same policy is
+ * non-blocking when a server or AsyncGame drives the game.
+ * Demonstrates the strategy pattern with a functional interface.
+ */
+@FunctionalInterface
+public interface MovePacing {
+    /** No delay: for simulations, tournaments and benchmarks. */
+    MovePacing NONE = () -> 0;
+
+    /**
+     * Gets the delay for the next move
+     * @return Milliseconds to wait, 0 for none
+     */
+    long nextDelayMillis();
+
+    /**
+     * Creates a policy that waits the same time before every move
+     * @param millis Delay per move in milliseconds
+     * @return The policy
+     */
+    static MovePacing fixed(long millis) {
+        return () -> millis;
+    }
+
+    /**
+     * Creates a policy that waits a random time in a range, which feels less mechanical
+     * @param minMillis Shortest delay in milliseconds
+     * @param maxMillis Longest delay in milliseconds
+     * @param random Source of the delays
+     * @return The policy
+     */
+    static MovePacing humanLike(long minMillis, long maxMillis, RandomGenerator random) {
+        if (minMillis < 0 || maxMillis < minMillis) {
+            throw new IllegalArgumentException("Invalid delay range: " + minMillis + "-" + maxMillis);
+        }
+        return () -> minMillis + random.nextLong(maxMillis - minMillis + 1);
+    }
+
+    /**
+     * Blocks the calling thread for the next delay
+     */
+    default void pause() {
+        long millis = nextDelayMillis();
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Hands a value over after the next delay without blocking
+     * @param value The value to deliver
+     * @return A future completing with the value after the delay; already complete if there is none
+     */
+    default <T> CompletableFuture<T> delay(T value) {
+        long millis = nextDelayMillis();
+        if (millis <= 0) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return CompletableFuture.supplyAsync(() -> value,
+                CompletableFuture.delayedExecutor(millis, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,257 @@
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Negamax search with alpha-beta pruning and a transposition table.
+ * The search runs on copies of the board's bitmasks, so the live Board is
+ * never modified while a computer player is thinking.
+ * Demonstrates separating an algorithm from the classes that use it.
+ */
+public class NegamaxEngine {
+    /** Score for a position where the side to move has already lost. */
+    public static final int WIN_SCORE = 10;
+
+    private static final int INFINITY = WIN_SCORE + 1;
+
+    // Cells tried first: center, corners, then edges
+    private static final int[] MOVE_ORDER = {4, 0, 2, 6, 8, 1, 3, 5, 7};
+
+    private static final int FLAG_EXACT = 1;
+    private static final int FLAG_LOWER = 2;
+    private static final int FLAG_UPPER = 3;
+    private static final int NO_MOVE = 15;
+
+    private static final int TABLE_BITS = 12;
+    private static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
+    private static final int MAX_PROBES = 4;
+
+    /**
+     * Transposition table keyed on the symmetry-canonical position seen from the
+     * mover's side, with linear probing. Each entry packs key, score, best move
+     * (in canonical coordinates) and bound type into one int, so entries are
+     * written atomically and the table can be shared by every engine and kept
+     * across moves and games. Canonical keys let 4,096 slots cover every position.
+     */
+    private static final int[] TABLE = new int[1 << TABLE_BITS];
+
+    private long nodesSearched;
+    private int lastScore;
+
+    /**
+     * Finds the best move for a symbol on the given board.
+     * Moves with equal scores are chosen between at random.
+     * @param board The classic 3x3 game board (not modified)
+     * @param symbol The symbol to move ('X' or 'O')
+     * @param random Source used to break ties between equally good moves
+     * @return The chosen cell index (row * 3 + col), or -1 if the board is full
+     */
+    public int bestMove(Board board, char symbol, RandomGenerator random) {
+        if (!board.isClassic()) {
+            throw new IllegalArgumentException("Negamax search only supports the classic 3x3 board");
+        }
+        char opponent = (symbol == 'X') ? 'O' : 'X';
+        int own = board.getBits(symbol);
+        int opp = board.getBits(opponent);
+
+        int bestCell = -1;
+        int bestScore = -INFINITY;
+        int ties = 0;
+        for (int cell : MOVE_ORDER) {
+            int bit = 1 << cell;
+            if (((own | opp) & bit) != 0) {
+                continue;
+            }
+            int score = shrink(-negamax(opp, own | bit, -INFINITY, INFINITY));
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+                ties = 1;
+            } else if (score == bestScore && random.nextInt(++ties) == 0) {
+                bestCell = cell;
+            }
+        }
+        lastScore = bestScore;
+        return bestCell;
+    }
+
+    /**
+     * Scores every empty cell as a move for the side to move.
+     * Scores use the same scale as getLastScore.
+     * @param own Cells held by the side to move
+     * @param opp Cells held by the other side
+     * @param scores Receives one score per cell (at least 9 entries); occupied cells are left unchanged
+     * @return The first best cell in search order, or -1 if the board is full
+     */
+    public int scoreMoves(int own, int opp, int[] scores) {
+        int bestCell = -1;
+        int bestScore = -INFINITY;
+        for (int cell : MOVE_ORDER) {
+            int bit = 1 << cell;
+            if (((own | opp) & bit) != 0) {
+                continue;
+            }
+            int score = shrink(-negamax(opp, own | bit, -INFINITY, INFINITY));
+            scores[cell] = score;
+            if (score > bestScore) {
+                bestScore = score;
+                bestCell = cell;
+            }
+        }
+        lastScore = bestScore;
+        return bestCell;
+    }
+
+    /**
+     * Gets the score of the last move returned by bestMove.
+     * Positive means a forced win, zero a draw, negative a forced loss;
+     * larger magnitudes mean the result comes sooner.
+     * @return The score from the mover's point of view
+     */
+    public int getLastScore() {
+        return lastScore;
+    }
+
+    /**
+     * Empties the shared transposition table, so the next search starts cold.
+     * Meant for benchmarks that should time a search rather than a table hit;
+     * engines searching at the same time only lose cached results.
+     */
+    public static void clearTable() {
+        Arrays.fill(TABLE, 0);
+    }
+
+    /**
+     * Gets the number of positions visited by this engine
+     * @return Total nodes searched since construction
+     */
+    public long getNodesSearched() {
+        return nodesSearched;
+    }
+
+    /**
+     * Scores a position from the point of view of the side to move
+     * @param own Cells held by the side to move
+     * @param opp Cells held by the side that just moved
+     * @param alpha Lower bound of the search window
+     * @param beta Upper bound of the search window
+     * @return The position score
+     */
+    private int negamax(int own, int opp, int alpha, int beta) {
+        nodesSearched++;
+
+        for (int mask : Board.WIN_MASKS) {
+            if ((opp & mask) == mask) {
+                return -WIN_SCORE;
+            }
+        }
+        int occupied = own | opp;
+        if (occupied == Board.FULL_MASK) {
+            return 0;
+        }
+
+        int canonical = BoardSymmetry.canonicalize(own, opp);
+        int key = BoardSymmetry.canonicalKey(canonical);
+        int transform = BoardSymmetry.transformOf(canonical);
+        int entry = probe(key);
+        int ttMove = NO_MOVE;
+        if (entry != 0) {
+            int score = (entry & 0x1F) - 16;
+            int flag = (entry >>> 9) & 0x3;
+            int canonicalMove = (entry >>> 5) & 0xF;
+            if (canonicalMove != NO_MOVE) {
+                ttMove = BoardSymmetry.unmapCell(canonicalMove, transform);
+            }
+            if (flag == FLAG_EXACT
+                    || (flag == FLAG_LOWER && score >= beta)
+                    || (flag == FLAG_UPPER && score <= alpha)) {
+                return score;
+            }
+        }
+
+        int originalAlpha = alpha;
+        int best = -INFINITY;
+        int bestCell = NO_MOVE;
+
+        // Try the remembered best move first, then the static order
+        for (int i = -1; i < MOVE_ORDER.length; i++) {
+            int cell = (i < 0) ? ttMove : MOVE_ORDER[i];
+            if (cell == NO_MOVE || (i >= 0 && cell == ttMove)) {
+                continue;
+            }
+            int bit = 1 << cell;
+            if ((occupied & bit) != 0) {
+                continue;
+            }
+            // Widen the child window by one because shrink() moves scores toward zero
+            int score = shrink(-negamax(opp, own | bit, -beta - 1, -alpha + 1));
+            if (score > best) {
+                best = score;
+                bestCell = cell;
+            }
+            if (best > alpha) {
+                alpha = best;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        int flag = (best <= originalAlpha) ? FLAG_UPPER : (best >= beta) ? FLAG_LOWER : FLAG_EXACT;
+        store(key, (flag << 9) | (BoardSymmetry.mapCell(bestCell, transform) << 5) | (best + 16));
+        return best;
+    }
+
+    /**
+     * Finds the table entry for a canonical key
+     * @return The packed entry, or 0 if the key is not stored
+     */
+    private static int probe(int key) {
+        int slot = hash(key);
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int entry = TABLE[(slot + i) & TABLE_MASK];
+            if (entry == 0) {
+                return 0;
+            }
+            if ((entry >>> 11) == key) {
+                return entry;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Stores an entry in the slot holding its key, the first empty slot,
+     * or else the key's home slot.
+     */
+    private static void store(int key, int data) {
+        int slot = hash(key);
+        int target = slot;
+        for (int i = 0; i < MAX_PROBES; i++) {
+            int index = (slot + i) & TABLE_MASK;
+            int entry = TABLE[index];
+            if (entry == 0 || (entry >>> 11) == key) {
+                target = index;
+                break;
+            }
+        }
+        TABLE[target] = (key << 11) | data;
+    }
+
+    private static int hash(int key) {
+        return (key * 0x9E3779B1) >>> (32 - TABLE_BITS);
+    }
+
+    /**
+     * Moves a score one step toward zero so that quicker wins and slower
+     * losses are preferred.
+     */
+    private static int shrink(int score) {
+        if (score > 0) {
+            return score - 1;
+        }
+        if (score < 0) {
+            return score + 1;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,255 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Perfect-play table for every reachable 3x3 position.
+ * The whole game tree is solved once into one byte per base-3 position code,
+ * then saved as a small binary file that later runs memory-map instead of
+ * solving again. A move is then a single table lookup.
+ * Demonstrates trading a one-time precomputation for constant-time answers.
+ */
+public class OpeningBook {
+    public static final int OUTCOME_UNKNOWN = 0;
+    public static final int OUTCOME_WIN = 1;
+    public static final int OUTCOME_DRAW = 2;
+    public static final int OUTCOME_LOSS = 3;
+
+    /** Default location of the saved table. */
+    public static final Path DEFAULT_PATH = Paths.get("tictactoe-book.bin");
+
+    private static final int MAGIC = 0x54545442; // "TTTB"
+    private static final int HEADER_BYTES = 8;
+    private static final int NO_MOVE = 15;
+
+    // Entry layout: bit 7 = present, bits 4-5 = outcome for the side to move, bits 0-3 = best cell
+    private static final int PRESENT = 0x80;
+
+    private final ByteBuffer table;
+    private final long buildNanos;
+    private final boolean loadedFromFile;
+    private final int positionCount;
+
+    private OpeningBook(ByteBuffer table, long buildNanos, boolean loadedFromFile) {
+        this.table = table;
+        this.buildNanos = buildNanos;
+        this.loadedFromFile = loadedFromFile;
+        int count = 0;
+        for (int i = 0; i < PositionCode.CODE_COUNT; i++) {
+            if ((table.get(i) & PRESENT) != 0) {
+                count++;
+            }
+        }
+        this.positionCount = count;
+    }
+
+    /**
+     * Solves the full game tree in memory
+     * @return A book covering every position reachable from the empty board
+     */
+    public static OpeningBook solve() {
+        long start = System.nanoTime();
+        byte[] entries = new byte[PositionCode.CODE_COUNT];
+        int[] scores = new int[PositionCode.CODE_COUNT];
+        solve(0, 0, 'X', entries, scores);
+        return new OpeningBook(ByteBuffer.wrap(entries), System.nanoTime() - start, false);
+    }
+
+    /**
+     * Memory-maps a previously saved book
+     * @param path The file written by save
+     * @return The loaded book
+     * @throws IOException If the file cannot be read or is not a book
+     */
+    public static OpeningBook load(Path path) throws IOException {
+        long start = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC
+                    || header.getInt() != PositionCode.CODE_COUNT) {
+                throw new IOException("Not an opening book: " + path);
+            }
+            ByteBuffer table = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, PositionCode.CODE_COUNT);
+            return new OpeningBook(table, System.nanoTime() - start, true);
+        }
+    }
+
+    /**
+     * Loads the book from a file, solving and saving it first if the file is missing
+     * @param path Location of the saved book
+     * @return The book
+     * @throws IOException If the file exists but cannot be read, or cannot be written
+     */
+    public static OpeningBook loadOrSolve(Path path) throws IOException {
+        if (Files.exists(path)) {
+            return load(path);
+        }
+        OpeningBook book = solve();
+        book.save(path);
+        return book;
+    }
+
+    /**
+     * Writes the book to a file
+     * @param path Destination file
+     * @throws IOException If the file cannot be written
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + PositionCode.CODE_COUNT);
+        out.putInt(MAGIC).putInt(PositionCode.CODE_COUNT);
+        for (int i = 0; i < PositionCode.CODE_COUNT; i++) {
+            out.put(table.get(i));
+        }
+        out.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Looks up the best move for the side to move
+     * @param board The game board
+     * @return The best cell index (row * 3 + col), or -1 if the position is not in the book
+     */
+    public int bestMove(Board board) {
+        return bestMove(PositionCode.encode(board));
+    }
+
+    /**
+     * Looks up the best move for a position code
+     * @param code The base-3 position code
+     * @return The best cell index, or -1 if the position is finished or not in the book
+     */
+    public int bestMove(int code) {
+        int entry = table.get(code) & 0xFF;
+        int cell = entry & 0x0F;
+        return ((entry & PRESENT) == 0 || cell == NO_MOVE) ? -1 : cell;
+    }
+
+    /**
+     * Looks up the perfect-play result for the side to move
+     * @param code The base-3 position code
+     * @return One of the OUTCOME_ constants
+     */
+    public int outcome(int code) {
+        int entry = table.get(code) & 0xFF;
+        return ((entry & PRESENT) == 0) ? OUTCOME_UNKNOWN : (entry >>> 4) & 0x3;
+    }
+
+    /**
+     * Gets how long the book took to build or load
+     * @return Nanoseconds spent in solve or load
+     */
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    /**
+     * Checks whether the book was memory-mapped from a file
+     * @return true if loaded, false if solved in this process
+     */
+    public boolean isLoadedFromFile() {
+        return loadedFromFile;
+    }
+
+    /**
+     * Gets the size of the table
+     * @return Table size in bytes, excluding the file header
+     */
+    public int getSizeBytes() {
+        return PositionCode.CODE_COUNT;
+    }
+
+    /**
+     * Gets the number of reachable positions stored in the table
+     * @return Count of present entries
+     */
+    public int getPositionCount() {
+        return positionCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Opening book: %d positions, %d bytes, %s in %.2f ms",
+                positionCount, getSizeBytes(), loadedFromFile ? "loaded" : "solved", buildNanos / 1e6);
+    }
+
+    /**
+     * Scores a position by exhaustive search, filling entries for it and every descendant.
+     * Scores are from the mover's point of view; larger magnitudes mean sooner results.
+     */
+    private static int solve(int xBits, int oBits, char toMove, byte[] entries, int[] scores) {
+        int code = PositionCode.encode(xBits, oBits);
+        if (entries[code] != 0) {
+            return scores[code];
+        }
+
+        int own = (toMove == 'X') ? xBits : oBits;
+        int opp = (toMove == 'X') ? oBits : xBits;
+        int score;
+        int bestCell = NO_MOVE;
+        if (hasLine(opp)) {
+            score = -NegamaxEngine.WIN_SCORE;
+        } else if ((xBits | oBits) == Board.FULL_MASK) {
+            score = 0;
+        } else {
+            score = Integer.MIN_VALUE;
+            char next = (toMove == 'X') ? 'O' : 'X';
+            for (int cell = 0; cell < Board.CELLS; cell++) {
+                int bit = 1 << cell;
+                if (((xBits | oBits) & bit) != 0) {
+                    continue;
+                }
+                int child = (toMove == 'X')
+                        ? solve(xBits | bit, oBits, next, entries, scores)
+                        : solve(xBits, oBits | bit, next, entries, scores);
+                int value = -child;
+                value -= Integer.signum(value); // prefer quicker wins and slower losses
+                if (value > score) {
+                    score = value;
+                    bestCell = cell;
+                }
+            }
+        }
+
+        int outcome = (score > 0) ? OUTCOME_WIN : (score < 0) ? OUTCOME_LOSS : OUTCOME_DRAW;
+        entries[code] = (byte) (PRESENT | (outcome << 4) | bestCell);
+        scores[code] = score;
+        return score;
+    }
+
+    private static boolean hasLine(int bits) {
+        for (int mask : Board.WIN_MASKS) {
+            if ((bits & mask) == mask) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the book file and reports solve time, load time and size
+     * @param args Optional output path
+     * @throws IOException If the file cannot be written or read back
+     */
+    public static void main(String[] args) throws IOException {
+        Path path = (args.length > 0) ? Paths.get(args[0]) : DEFAULT_PATH;
+        OpeningBook solved = solve();
+        System.out.println(solved);
+        solved.save(path);
+        OpeningBook loaded = load(path);
+        System.out.println(loaded);
+        System.out.println("File: " + path.toAbsolutePath() + " (" + Files.size(path) + " bytes)");
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Spreads independent bot-vs-bot games across a fixed pool of worker threads.
+ * Every worker has its own MatchRunner (so its own Board), its own players and
+ * its own split of one seeded SplittableRandom. Games are claimed in chunks from
+ * a shared counter, and results are summed into LongAdders once per chunk, so
+ * workers share almost nothing while they play.
+ * Demonstrates running the same match loop concurrently without shared mutable state.
+ */
+public class ParallelTournament {
+    private static final long CHUNK_SIZE = 1024;
+
+    private final PlayerFactory factory1;
+    private final PlayerFactory factory2;
+    private final GameRules rules;
+    private final int workers;
+    private final long seed;
+
+    /**
+     * Constructor for a tournament on every available core
+     * @param factory1 Creates the first player (moves first) for each worker
+     * @param factory2 Creates the second player for each worker
+     */
+    public ParallelTournament(PlayerFactory factory1, PlayerFactory factory2) {
+        this(factory1, factory2, new TicTacToeRules(), Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /**
+     * Constructor with explicit rules, worker count and seed
+     * @param factory1 Creates the first player (moves first) for each worker
+     * @param factory2 Creates the second player for each worker
+     * @param rules Shared rules; must be stateless, like TicTacToeRules
+     * @param workers Number of worker threads
+     * @param seed Seed of the random source that is split between workers
+     */
+    public ParallelTournament(PlayerFactory factory1, PlayerFactory factory2, GameRules rules, int workers, long seed) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Need at least one worker");
+        }
+        this.factory1 = factory1;
+        this.factory2 = factory2;
+        this.rules = rules;
+        this.workers = workers;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays a tournament and waits for it to finish
+     * @param games Total number of games across all workers
+     * @return Combined totals and per-worker throughput
+     * @throws InterruptedException If the calling thread is interrupted while waiting
+     */
+    public TournamentResult run(long games) throws InterruptedException {
+        LongAdder wins1 = new LongAdder();
+        LongAdder wins2 = new LongAdder();
+        LongAdder draws = new LongAdder();
+        AtomicLong nextGame = new AtomicLong();
+        long[] workerGames = new long[workers];
+        long[] workerNanos = new long[workers];
+        LatencyHistogram[] latencies = new LatencyHistogram[workers];
+        String[] names = new String[2];
+
+        SplittableRandom root = new SplittableRandom(seed);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            Player player1 = factory1.create(root.split());
+            Player player2 = factory2.create(root.split());
+            names[0] = player1.getName();
+            names[1] = player2.getName();
+            tasks.add(() -> {
+                MatchRunner runner = new MatchRunner(player1, player2, rules);
+                player1.makeHeadless();
+                player2.makeHeadless();
+                long start = System.nanoTime();
+                long played = 0;
+                long first;
+                while ((first = nextGame.getAndAdd(CHUNK_SIZE)) < games) {
+                    long chunk = Math.min(CHUNK_SIZE, games - first);
+                    long chunkWins1 = 0;
+                    long chunkWins2 = 0;
+                    for (long g = 0; g < chunk; g++) {
+                        char winner = runner.playGame();
+                        if (winner == player1.getSymbol()) {
+                            chunkWins1++;
+                        } else if (winner == player2.getSymbol()) {
+                            chunkWins2++;
+                        }
+                    }
+                    wins1.add(chunkWins1);
+                    wins2.add(chunkWins2);
+                    draws.add(chunk - chunkWins1 - chunkWins2);
+                    played += chunk;
+                }
+                workerNanos[worker] = System.nanoTime() - start;
+                workerGames[worker] = played;
+                latencies[worker] = runner.getMoveLatency();
+                return null;
+            });
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        long start = System.nanoTime();
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Tournament worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        LatencyHistogram latency = new LatencyHistogram();
+        for (LatencyHistogram workerLatency : latencies) {
+            latency.add(workerLatency);
+        }
+        return new TournamentResult(names[0], names[1], wins1.sum(), wins2.sum(), draws.sum(),
+                elapsed, latency, workerGames, workerNanos);
+    }
+
+    /**
+     * Runs Smart Bot against the random Computer on all cores and prints the report
+     * @param args Optional number of games (default 1000000) and worker count
+     * @throws InterruptedException If interrupted while waiting for workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 1_000_000;
+        int workers = (args.length > 1) ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        ParallelTournament tournament = new ParallelTournament(
+                random -> new SmartComputerPlayer("Smart Bot", 'X', null, random),
+                random -> new ComputerPlayer("Computer", 'O', random),
+                new TicTacToeRules(), workers, System.nanoTime());
+        tournament.run(Math.min(games, 50_000)); // warm up
+        System.out.println(tournament.run(games));
+    }
+}
@@ -1,21 +1,44 @@
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Abstract base class representing a player in the Tic-Tac-Toe game.
  * Demonstrates abstraction and encapsulation principles.
  */
 public abstract class Player {
+    /** Whether a player class overrides selectMove or makeMove, checked once per class. */
+    private static final ClassValue<Boolean> CHOOSES_MOVES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("selectMove", Board.class).getDeclaringClass() != Player.class
+                        || type.getMethod("makeMove", Board.class).getDeclaringClass() != Player.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+    };
+
     private String name;
     private char symbol;
     private int score;
+    private MovePacing pacing;
+    private MoveListener listener;
 
     /**
      * Constructor to initialize a player
      * @param name The player's name
      * @param symbol The player's symbol ('X' or 'O')
+     * @throws IllegalStateException if the subclass overrides neither selectMove nor makeMove
      */
     public Player(String name, char symbol) {
+        if (!CHOOSES_MOVES.get(getClass())) {
+            throw new IllegalStateException(getClass().getName()
+                    + " must override selectMove(Board) (or the older makeMove(Board))");
+        }
         this.name = name;
         this.symbol = symbol;
         this.score = 0;
+        this.pacing = MovePacing.NONE;
     }
 
     // Getters demonstrating encapsulation
@@ -37,12 +60,147 @@ public abstract class Player {
     }
 
     /**
-     * Abstract method that must be implemented by subclasses.
+     * Gets the policy deciding how long this player appears to think
+     * @return The pacing policy; MovePacing.NONE unless set
+     */
+    public MovePacing getPacing() {
+        return pacing;
+    }
+
+    /**
+     * Sets how long this player appears to think before each move
+     * @param pacing The pacing policy, for example MovePacing.NONE for simulations
+     */
+    public void setPacing(MovePacing pacing) {
+        this.pacing = (pacing == null) ? MovePacing.NONE : pacing;
+    }
+
+    /**
+     * Gets the listener told about this player's moves
+     * @return The listener, or null if nobody is listening
+     */
+    public MoveListener getMoveListener() {
+        return listener;
+    }
+
+    /**
+     * Sets who is told about this player's moves
+     * @param listener The listener, or null for silent play
+     */
+    public void setMoveListener(MoveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Checks whether this player moves instantly and silently
+     * @return true if there is no pacing delay and no listener
+     */
+    public boolean isHeadless() {
+        return pacing == MovePacing.NONE && listener == null;
+    }
+
+    /**
+     * Removes the pacing delay and the listener so the player moves instantly
+     * and silently, as MatchRunner does for bots playing each other
+     */
+    public void makeHeadless() {
+        this.pacing = MovePacing.NONE;
+        this.listener = null;
+    }
+
+    /**
+     * Reveals a chosen move: tells the listener, waits for the pacing delay on
+     * the calling thread, then announces the move
+     * @param board The game board
+     * @param cell The chosen cell index
+     * @param activity What the player is shown doing, for example "is thinking..."
+     * @param remark Extra commentary shown with the move, or null
+     * @return The cell index
+     */
+    protected final int reveal(Board board, int cell, String activity, String remark) {
+        MoveListener current = listener;
+        if (current != null) {
+            current.thinking(this, activity);
+        }
+        pacing.pause();
+        if (current != null) {
+            if (remark != null) {
+                current.remark(this, remark);
+            }
+            current.moveChosen(this, board, cell);
+        }
+        return cell;
+    }
+
+    /**
+     * Reveals a chosen move like reveal, but the pacing delay is a timer rather
+     * than a sleeping thread
+     * @param board The game board
+     * @param cell The chosen cell index
+     * @param activity What the player is shown doing
+     * @param remark Extra commentary shown with the move, or null
+     * @return A future holding the cell index once the delay has passed
+     */
+    protected final CompletableFuture<Integer> revealAsync(Board board, int cell, String activity, String remark) {
+        MoveListener current = listener;
+        if (current == null) {
+            return pacing.delay(cell);
+        }
+        current.thinking(this, activity);
+        return pacing.delay(cell).thenApply(chosen -> {
+            if (remark != null) {
+                current.remark(this, remark);
+            }
+            current.moveChosen(this, board, chosen);
+            return chosen;
+        });
+    }
+
+    /**
+     * Gets how much searching this player has done, for metrics
+     * @return Total positions or simulations examined so far; 0 for players that do not search
+     */
+    public long getNodesSearched() {
+        return 0;
+    }
+
+    /**
+     * Chooses the next move as a single cell index (row * board size + col),
+     * so no array is allocated per move.
+     * Subclasses must override this or makeMove; the constructor rejects a
+     * class that overrides neither. The default calls makeMove, which keeps
+     * players written against the [row, col] form working.
      * Demonstrates abstraction - each player type will have different move logic.
      * @param board The game board
+     * @return The chosen cell index
+     */
+    public int selectMove(Board board) {
+        int[] move = makeMove(board);
+        return move[0] * board.getSize() + move[1];
+    }
+
+    /**
+     * Chooses the next move without blocking the caller.
+     * The default runs selectMove on MoveExecutor, so every existing synchronous
+     * player works with asynchronous game drivers unchanged. Players that can
+     * answer without blocking a thread override this.
+     * @param board The game board; must not be changed until the future completes
+     * @return A future holding the chosen cell index
+     */
+    public CompletableFuture<Integer> selectMoveAsync(Board board) {
+        return CompletableFuture.supplyAsync(() -> selectMove(board), MoveExecutor.get());
+    }
+
+    /**
+     * Chooses the next move in the older [row, col] form.
+     * The default converts selectMove; callers in the game loop use selectMove instead.
+     * @param board The game board
      * @return Array containing [row, col] of the move
      */
-    public abstract int[] makeMove(Board board);
+    public int[] makeMove(Board board) {
+        int cell = selectMove(board);
+        return new int[]{cell / board.getSize(), cell % board.getSize()};
+    }
 
     @Override
     public String toString() {
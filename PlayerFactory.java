@@ -0,0 +1,17 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates fresh Player instances, one per worker thread.
+ * Players keep per-game state and are not thread-safe, so parallel drivers
+ * build a separate player for every thread instead of sharing one.
+ * Demonstrates a functional interface used as a factory.
+ */
+@FunctionalInterface
+public interface PlayerFactory {
+    /**
+     * Creates a player
+     * @param random The random source this player should use
+     * @return A new player
+     */
+    Player create(RandomGenerator random);
+}
@@ -0,0 +1,66 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Move statistics for one player name, safe to record from many threads.
+ * Latencies go to a fixed set of LatencyHistogram shards, picked by a hash
+ * of the recording thread's id, so threads rarely share a lock and memory
+ * stays the same however many threads come and go (GameServer starts one per
+ * session). Readers merge the shards on demand.
+ * Demonstrates striped recording with on-demand aggregation.
+ */
+public final class PlayerMetrics {
+    private static final int SHARD_COUNT =
+            Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+
+    private final String name;
+    private final LatencyHistogram[] shards;
+    private final LongAdder searchNodes;
+
+    PlayerMetrics(String name) {
+        this.name = name;
+        this.shards = new LatencyHistogram[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new LatencyHistogram();
+        }
+        this.searchNodes = new LongAdder();
+    }
+
+    /**
+     * Records one move
+     * @param nanos Time the player took to choose the move
+     * @param nodes Positions the player's search examined for it, or 0
+     */
+    public void recordMove(long nanos, long nodes) {
+        long id = Thread.currentThread().getId() * 0x9E3779B97F4A7C15L;
+        LatencyHistogram shard = shards[(int) (id >>> 32) & (SHARD_COUNT - 1)];
+        synchronized (shard) {
+            shard.record(nanos);
+        }
+        if (nodes > 0) {
+            searchNodes.add(nodes);
+        }
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public long getSearchNodes() {
+        return searchNodes.sum();
+    }
+
+    /**
+     * Merges the move latencies recorded by every thread
+     * @return A new histogram holding all recorded moves
+     */
+    public LatencyHistogram getMoveLatency() {
+        LatencyHistogram merged = new LatencyHistogram();
+        for (LatencyHistogram shard : shards) {
+            synchronized (shard) {
+                merged.add(shard);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * A player's record and Elo rating at one moment.
+ * Instances are immutable copies handed out by RatingStore.
+ * Demonstrates an immutable value class.
+ */
+public final class PlayerRating {
+    private final String name;
+    private final int wins;
+    private final int draws;
+    private final int losses;
+    private final double rating;
+
+    /**
+     * Constructor for a rating snapshot
+     * @param name The player's name
+     * @param wins Games won
+     * @param draws Games drawn
+     * @param losses Games lost
+     * @param rating Elo rating
+     */
+    public PlayerRating(String name, int wins, int draws, int losses, double rating) {
+        this.name = name;
+        this.wins = wins;
+        this.draws = draws;
+        this.losses = losses;
+        this.rating = rating;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public int getLosses() {
+        return losses;
+    }
+
+    public double getRating() {
+        return rating;
+    }
+
+    public int getGames() {
+        return wins + draws + losses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.0f (%dW %dD %dL)", name, rating, wins, draws, losses);
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Converts between Board bitmasks and a base-3 position code.
+ * Cell i contributes 0 (empty), 1 ('X') or 2 ('O') times 3^i, so every
+ * 3x3 position maps to a number below 3^9 = 19683.
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class PositionCode {
+    /** Number of distinct codes (3^9). */
+    public static final int CODE_COUNT = 19683;
+
+    private static final int[] POWERS = new int[Board.CELLS];
+
+    static {
+        int power = 1;
+        for (int i = 0; i < Board.CELLS; i++) {
+            POWERS[i] = power;
+            power *= 3;
+        }
+    }
+
+    private PositionCode() {
+    }
+
+    /**
+     * Encodes a board
+     * @param board The classic 3x3 game board
+     * @return The base-3 position code
+     */
+    public static int encode(Board board) {
+        if (!board.isClassic()) {
+            throw new IllegalArgumentException("Position codes only cover the classic 3x3 board");
+        }
+        return encode(board.getBits('X'), board.getBits('O'));
+    }
+
+    /**
+     * Encodes a pair of bitmasks
+     * @param xBits Cells held by 'X'
+     * @param oBits Cells held by 'O'
+     * @return The base-3 position code
+     */
+    public static int encode(int xBits, int oBits) {
+        int code = 0;
+        for (int i = 0; i < Board.CELLS; i++) {
+            if ((xBits & (1 << i)) != 0) {
+                code += POWERS[i];
+            } else if ((oBits & (1 << i)) != 0) {
+                code += 2 * POWERS[i];
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Gets the 'X' bitmask of a position code
+     * @param code The base-3 position code
+     * @return Cells held by 'X'
+     */
+    public static int xBits(int code) {
+        return digitMask(code, 1);
+    }
+
+    /**
+     * Gets the 'O' bitmask of a position code
+     * @param code The base-3 position code
+     * @return Cells held by 'O'
+     */
+    public static int oBits(int code) {
+        return digitMask(code, 2);
+    }
+
+    /**
+     * Gets the code change caused by placing a symbol on an empty cell
+     * @param cell The cell index (0-8)
+     * @param symbol 'X' or 'O'
+     * @return The amount to add to the code
+     */
+    public static int delta(int cell, char symbol) {
+        return (symbol == 'X') ? POWERS[cell] : 2 * POWERS[cell];
+    }
+
+    private static int digitMask(int code, int digit) {
+        int mask = 0;
+        for (int i = 0; i < Board.CELLS; i++) {
+            if (code % 3 == digit) {
+                mask |= 1 << i;
+            }
+            code /= 3;
+        }
+        return mask;
+    }
+}
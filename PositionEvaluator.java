@@ -0,0 +1,213 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Scores classic 3x3 positions in bulk for analysis jobs: best move, result
+ * under perfect play and how many moves keep a forced win.
+ * Positions and results are plain ints, so large batches are primitive arrays
+ * or IntStreams with no per-position objects. A result packs the best cell in
+ * bits 0-3 (15 when there is none), the outcome for the side to move in bits
+ * 4-5 (OpeningBook.OUTCOME_ constants) and the winning move count in bits 6-9;
+ * read it with the static accessors.
+ * The evaluator itself holds no mutable state. Each thread gets its own board,
+ * NegamaxEngine and score buffer, so one instance can serve a parallel stream.
+ * Run with: java PositionEvaluator
+ * Demonstrates a thread-safe batch API built on per-thread scratch space.
+ */
+public final class PositionEvaluator {
+    private static final int NO_MOVE = 15;
+
+    private final GameRules rules;
+    private final ThreadLocal<Scratch> scratch;
+
+    /**
+     * Reusable per-thread working space
+     */
+    private static final class Scratch {
+        final Board board;
+        final NegamaxEngine engine = new NegamaxEngine();
+        final int[] scores = new int[Board.CELLS];
+
+        Scratch(GameRules rules) {
+            this.board = rules.createBoard();
+        }
+    }
+
+    /**
+     * Constructor for an evaluator of the classic game
+     */
+    public PositionEvaluator() {
+        this(new TicTacToeRules());
+    }
+
+    /**
+     * Constructor for an evaluator using the given rules
+     * @param rules Rules played on the classic 3x3 board
+     */
+    public PositionEvaluator(GameRules rules) {
+        if (!rules.createBoard().isClassic()) {
+            throw new IllegalArgumentException("Position evaluation only supports the classic 3x3 board");
+        }
+        this.rules = rules;
+        this.scratch = ThreadLocal.withInitial(() -> new Scratch(rules));
+    }
+
+    /**
+     * Evaluates one position
+     * @param code The base-3 position code
+     * @return The packed result; OUTCOME_UNKNOWN if the position cannot occur in a game
+     */
+    public int evaluate(int code) {
+        if (code < 0 || code >= PositionCode.CODE_COUNT) {
+            return pack(-1, OpeningBook.OUTCOME_UNKNOWN, 0);
+        }
+        int xBits = PositionCode.xBits(code);
+        int oBits = PositionCode.oBits(code);
+        int xCount = Integer.bitCount(xBits);
+        int oCount = Integer.bitCount(oBits);
+        if (xCount != oCount && xCount != oCount + 1) {
+            return pack(-1, OpeningBook.OUTCOME_UNKNOWN, 0);
+        }
+        char mover = (xCount == oCount) ? 'X' : 'O';
+
+        Scratch s = scratch.get();
+        Board board = s.board;
+        board.reset();
+        for (int cell = 0; cell < Board.CELLS; cell++) {
+            int bit = 1 << cell;
+            if ((xBits & bit) != 0) {
+                board.makeMove(cell, 'X');
+            } else if ((oBits & bit) != 0) {
+                board.makeMove(cell, 'O');
+            }
+        }
+
+        char winner = rules.checkWinner(board);
+        if (winner != ' ') {
+            // Only the side that just moved can have a line, and only one side can
+            boolean legal = winner != mover && !board.hasWon(mover);
+            return pack(-1, legal ? OpeningBook.OUTCOME_LOSS : OpeningBook.OUTCOME_UNKNOWN, 0);
+        }
+        if (rules.isDraw(board)) {
+            return pack(-1, OpeningBook.OUTCOME_DRAW, 0);
+        }
+
+        int own = board.getBits(mover);
+        int opp = board.getBits(mover == 'X' ? 'O' : 'X');
+        int[] scores = s.scores;
+        int bestCell = s.engine.scoreMoves(own, opp, scores);
+        int winningMoves = 0;
+        for (int cell = 0; cell < Board.CELLS; cell++) {
+            if (((own | opp) & (1 << cell)) == 0 && scores[cell] > 0) {
+                winningMoves++;
+            }
+        }
+        int score = scores[bestCell];
+        int outcome = (score > 0) ? OpeningBook.OUTCOME_WIN
+                : (score < 0) ? OpeningBook.OUTCOME_LOSS : OpeningBook.OUTCOME_DRAW;
+        return pack(bestCell, outcome, winningMoves);
+    }
+
+    /**
+     * Evaluates a batch of positions in parallel on the common fork-join pool
+     * @param codes Base-3 position codes
+     * @return Packed results, one per code and in the same order
+     */
+    public int[] evaluateAll(int[] codes) {
+        int[] results = new int[codes.length];
+        IntStream.range(0, codes.length).parallel().forEach(i -> results[i] = evaluate(codes[i]));
+        return results;
+    }
+
+    /**
+     * Evaluates a stream of positions lazily; call parallel() on the input to spread the work
+     * @param codes Base-3 position codes
+     * @return Packed results in encounter order
+     */
+    public IntStream evaluateAll(IntStream codes) {
+        return codes.map(this::evaluate);
+    }
+
+    /**
+     * Gets the best move from a packed result
+     * @param result A value returned by evaluate
+     * @return The cell index, or -1 if the game is over or the position cannot occur
+     */
+    public static int bestMove(int result) {
+        int cell = result & 0xF;
+        return (cell == NO_MOVE) ? -1 : cell;
+    }
+
+    /**
+     * Gets the perfect-play result for the side to move from a packed result
+     * @param result A value returned by evaluate
+     * @return One of the OpeningBook.OUTCOME_ constants
+     */
+    public static int outcome(int result) {
+        return (result >>> 4) & 0x3;
+    }
+
+    /**
+     * Gets the number of moves that keep a forced win from a packed result
+     * @param result A value returned by evaluate
+     * @return Count of winning moves for the side to move
+     */
+    public static int winningMoves(int result) {
+        return (result >>> 6) & 0xF;
+    }
+
+    private static int pack(int bestCell, int outcome, int winningMoves) {
+        return ((bestCell < 0) ? NO_MOVE : bestCell) | (outcome << 4) | (winningMoves << 6);
+    }
+
+    /**
+     * Evaluates every position code, sequentially and in parallel, checks the
+     * results against the opening book and reports throughput
+     * @param args Optional number of passes (default 20)
+     */
+    public static void main(String[] args) {
+        int passes = (args.length > 0) ? Integer.parseInt(args[0]) : 20;
+        PositionEvaluator evaluator = new PositionEvaluator();
+        int[] codes = IntStream.range(0, PositionCode.CODE_COUNT).toArray();
+
+        OpeningBook book = OpeningBook.solve();
+        int[] results = evaluator.evaluateAll(codes);
+        int legal = 0;
+        int mismatches = 0;
+        int[] byOutcome = new int[4];
+        for (int code : codes) {
+            int outcome = outcome(results[code]);
+            byOutcome[outcome]++;
+            if (outcome != OpeningBook.OUTCOME_UNKNOWN) {
+                legal++;
+            }
+            if (outcome != book.outcome(code)) {
+                mismatches++;
+            }
+        }
+        System.out.printf("Legal positions: %d (wins %d, draws %d, losses %d for the side to move)%n", legal,
+                byOutcome[OpeningBook.OUTCOME_WIN], byOutcome[OpeningBook.OUTCOME_DRAW],
+                byOutcome[OpeningBook.OUTCOME_LOSS]);
+        System.out.println("✅ Opening book mismatches: " + mismatches);
+        System.out.println("Empty board: best cell " + bestMove(results[0]) + ", "
+                + winningMoves(results[0]) + " winning moves");
+
+        for (int i = 0; i < 2; i++) {
+            report("sequential", passes, codes, () -> evaluator.evaluateAll(IntStream.of(codes)).sum());
+            report("parallel", passes, codes, () -> IntStream.of(evaluator.evaluateAll(codes)).sum());
+        }
+    }
+
+    private static void report(String label, int passes, int[] codes, IntSupplier pass) {
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < passes; i++) {
+            sink += pass.getAsInt();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-10s %,12.0f positions/s (%d threads, checksum %d)%n", label,
+                (double) codes.length * passes / seconds,
+                label.equals("parallel") ? ForkJoinPool.getCommonPoolParallelism() : 1, sink);
+    }
+}
@@ -0,0 +1,63 @@
+import java.io.PrintStream;
+
+/**
+ * Game listener that keeps every finished round in a RatingStore and shows
+ * both players' ratings with the scoreboard.
+ * Demonstrates adding behavior to Game without changing it.
+ */
+public class RatingRecorder implements GameListener {
+    private final RatingStore store;
+    private final PrintStream out;
+    private Player player1;
+    private Player player2;
+
+    /**
+     * Constructor for a recorder writing to a store and showing ratings on System.out
+     * @param store Where results and ratings are kept
+     */
+    public RatingRecorder(RatingStore store) {
+        this(store, System.out);
+    }
+
+    /**
+     * Constructor for a recorder showing ratings on any stream
+     * @param store Where results and ratings are kept
+     * @param out Where the ratings line is written, in one call like ConsoleRenderer's frames
+     */
+    public RatingRecorder(RatingStore store, PrintStream out) {
+        this.store = store;
+        this.out = out;
+    }
+
+    @Override
+    public void gameStarted(Board board, Player player1, Player player2) {
+        this.player1 = player1;
+        this.player2 = player2;
+    }
+
+    @Override
+    public void gameWon(Board board, Player winner) {
+        record(winner == player1 ? GameRecord.RESULT_FIRST_WINS : GameRecord.RESULT_SECOND_WINS);
+    }
+
+    @Override
+    public void gameDrawn(Board board) {
+        record(GameRecord.RESULT_DRAW);
+    }
+
+    @Override
+    public void scoreboard(Player player1, Player player2) {
+        PlayerRating rating1 = store.get(player1.getName());
+        PlayerRating rating2 = store.get(player2.getName());
+        if (rating1 != null && rating2 != null) {
+            out.print("📈 RATINGS: " + rating1 + " | " + rating2 + "\n\n");
+        }
+    }
+
+    private void record(int result) {
+        // Two people who typed the same name share one record, so there is nothing to rate
+        if (!player1.getName().equals(player2.getName())) {
+            store.recordGame(player1.getName(), player2.getName(), result);
+        }
+    }
+}
@@ -0,0 +1,513 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent wins, draws, losses and Elo rating for every player and bot.
+ *
+ * Ratings live in a ConcurrentHashMap and are updated in memory, so recording
+ * a game takes two entry locks and no I/O. Changed players are queued once per
+ * flush, however many games they played in between, and a background flush
+ * appends their latest state to a log in one buffered write. Each state record
+ * carries the player's game count, so loading keeps the newest state no matter
+ * the order records were written in. When the log grows, it is compacted into
+ * a snapshot of every player and started again.
+ *
+ * Files: &lt;base&gt;.snapshot and &lt;base&gt;.log, both memory-mapped when loading.
+ * Demonstrates an append-only store with an in-memory index.
+ */
+public class RatingStore implements AutoCloseable {
+    public static final double INITIAL_RATING = 1200;
+    public static final double K_FACTOR = 32;
+
+    private static final int LOG_MAGIC = 0x5454544C; // "TTTL"
+    private static final int SNAPSHOT_MAGIC = 0x54545453; // "TTTS"
+    private static final int HEADER_BYTES = 8;
+    private static final byte NAME_RECORD = 1;
+    private static final byte STATE_RECORD = 2;
+    private static final int STATE_BYTES = 1 + 4 + 4 + 4 + 4 + 8;
+    private static final long FLUSH_MILLIS = 1000;
+    private static final long CLOSE_WAIT_MILLIS = 10_000;
+    private static final long COMPACT_LOG_BYTES = 4L << 20;
+
+    /** One player's live record; fields are guarded by the entry's own lock. */
+    private static final class Entry {
+        final int id;
+        final String name;
+        int wins;
+        int draws;
+        int losses;
+        double rating;
+        boolean dirty;
+
+        Entry(int id, String name) {
+            this.id = id;
+            this.name = name;
+            this.rating = INITIAL_RATING;
+        }
+
+        int games() {
+            return wins + draws + losses;
+        }
+    }
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final Map<String, Entry> index;
+    private final AtomicInteger nextId;
+    private final Queue<Entry> newNames;
+    private final Queue<Entry> dirty;
+    private final Object flushLock;
+    private final ByteBuffer buffer;
+    private final ScheduledExecutorService flusher;
+    private FileChannel log;
+    private long loadNanos;
+
+    private RatingStore(Path base) {
+        this.snapshotPath = Paths.get(base + ".snapshot");
+        this.logPath = Paths.get(base + ".log");
+        this.index = new ConcurrentHashMap<>();
+        this.nextId = new AtomicInteger();
+        this.newNames = new ConcurrentLinkedQueue<>();
+        this.dirty = new ConcurrentLinkedQueue<>();
+        this.flushLock = new Object();
+        this.buffer = ByteBuffer.allocateDirect(64 * 1024);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "rating-store-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Opens a store, loading whatever a previous run saved
+     * @param base Path prefix of the store files, for example "tictactoe-ratings"
+     * @return The open store, flushing in the background once a second
+     * @throws IOException If the files exist but cannot be read, or cannot be created
+     */
+    public static RatingStore open(Path base) throws IOException {
+        RatingStore store = new RatingStore(base);
+        long start = System.nanoTime();
+        Map<Integer, Entry> byId = new HashMap<>();
+        store.loadSnapshot(byId);
+        long validLogBytes = store.loadLog(byId);
+        store.loadNanos = System.nanoTime() - start;
+
+        store.log = FileChannel.open(store.logPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (validLogBytes < HEADER_BYTES) {
+            store.log.truncate(0);
+            store.writeLogHeader();
+        } else {
+            store.log.truncate(validLogBytes); // drop a record cut short by a crash
+            store.log.position(validLogBytes);
+        }
+        store.flusher.scheduleWithFixedDelay(store::backgroundFlush, FLUSH_MILLIS, FLUSH_MILLIS, TimeUnit.MILLISECONDS);
+        return store;
+    }
+
+    /**
+     * Records one finished game and updates both players' Elo ratings
+     * @param player1 Name of the first player
+     * @param player2 Name of the second player
+     * @param result One of the GameRecord.RESULT_ constants, from the first player's side
+     */
+    public void recordGame(String player1, String player2, int result) {
+        Entry a = entry(player1);
+        Entry b = entry(player2);
+        if (a == b) {
+            throw new IllegalArgumentException("A player cannot play against itself: " + player1);
+        }
+        // Always lock the lower id first so concurrent games cannot deadlock
+        Entry first = (a.id < b.id) ? a : b;
+        Entry second = (first == a) ? b : a;
+        synchronized (first) {
+            synchronized (second) {
+                double expected = 1.0 / (1.0 + Math.pow(10, (b.rating - a.rating) / 400.0));
+                double score;
+                if (result == GameRecord.RESULT_FIRST_WINS) {
+                    score = 1;
+                    a.wins++;
+                    b.losses++;
+                } else if (result == GameRecord.RESULT_SECOND_WINS) {
+                    score = 0;
+                    a.losses++;
+                    b.wins++;
+                } else {
+                    score = 0.5;
+                    a.draws++;
+                    b.draws++;
+                }
+                double change = K_FACTOR * (score - expected);
+                a.rating += change;
+                b.rating -= change;
+                markDirty(a);
+                markDirty(b);
+            }
+        }
+    }
+
+    /**
+     * Looks up a player
+     * @param name The player's name
+     * @return A copy of the player's record, or null if the player has never played
+     */
+    public PlayerRating get(String name) {
+        Entry entry = index.get(name);
+        if (entry == null) {
+            return null;
+        }
+        synchronized (entry) {
+            return new PlayerRating(entry.name, entry.wins, entry.draws, entry.losses, entry.rating);
+        }
+    }
+
+    /**
+     * Lists every player, highest rating first
+     * @return Copies of all records
+     */
+    public List<PlayerRating> leaderboard() {
+        List<PlayerRating> ratings = new ArrayList<>();
+        for (String name : index.keySet()) {
+            ratings.add(get(name));
+        }
+        ratings.sort(Comparator.comparingDouble(PlayerRating::getRating).reversed());
+        return ratings;
+    }
+
+    /**
+     * Gets the number of players in the store
+     * @return Player count
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Gets how long opening the store spent reading its files
+     * @return Nanoseconds spent loading
+     */
+    public long getLoadNanos() {
+        return loadNanos;
+    }
+
+    /**
+     * Appends every changed player to the log, compacting it first if it has grown large
+     * @throws IOException If the log cannot be written
+     */
+    public void flush() throws IOException {
+        synchronized (flushLock) {
+            if (log.size() > COMPACT_LOG_BYTES) {
+                compactLocked();
+            } else {
+                appendChanges();
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of every player and starts a new, empty log
+     * @throws IOException If the snapshot or log cannot be written
+     */
+    public void compact() throws IOException {
+        synchronized (flushLock) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Stops background flushing, then flushes and syncs everything to disk
+     * @throws IOException If the final flush fails
+     */
+    @Override
+    public void close() throws IOException {
+        // Let a flush in progress finish: interrupting it would close the log mid-write
+        flusher.shutdown();
+        boolean interrupted = false;
+        try {
+            flusher.awaitTermination(CLOSE_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            interrupted = true; // restored after the final flush, which an interrupt would abort
+        }
+        try {
+            synchronized (flushLock) {
+                try {
+                    appendChanges();
+                    log.force(false);
+                } finally {
+                    log.close();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Entry entry(String name) {
+        Entry entry = index.get(name);
+        if (entry != null) {
+            return entry;
+        }
+        return index.computeIfAbsent(name, key -> {
+            Entry created = new Entry(nextId.getAndIncrement(), key);
+            newNames.add(created);
+            return created;
+        });
+    }
+
+    // Caller holds the entry's lock
+    private void markDirty(Entry entry) {
+        if (!entry.dirty) {
+            entry.dirty = true;
+            dirty.add(entry);
+        }
+    }
+
+    private void backgroundFlush() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not save ratings: " + e.getMessage());
+        }
+    }
+
+    // Caller holds flushLock
+    private void appendChanges() throws IOException {
+        // Take changed players before new names: a player is named before it is ever
+        // marked changed, so every state written below has its name in this batch or an earlier one
+        List<Entry> changed = new ArrayList<>();
+        for (Entry entry = dirty.poll(); entry != null; entry = dirty.poll()) {
+            changed.add(entry);
+        }
+        for (Entry entry = newNames.poll(); entry != null; entry = newNames.poll()) {
+            byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+            ensureRoom(1 + 4 + 2 + name.length);
+            buffer.put(NAME_RECORD).putInt(entry.id).putShort((short) name.length).put(name);
+        }
+        for (Entry entry : changed) {
+            ensureRoom(STATE_BYTES);
+            synchronized (entry) {
+                entry.dirty = false;
+                buffer.put(STATE_RECORD).putInt(entry.id)
+                        .putInt(entry.wins).putInt(entry.draws).putInt(entry.losses).putDouble(entry.rating);
+            }
+        }
+        writeBuffer(log);
+    }
+
+    // Caller holds flushLock
+    private void compactLocked() throws IOException {
+        // Every state below goes into the snapshot; players changed after this queue again.
+        // Queued names are kept: a name written twice is ignored when loading.
+        dirty.clear();
+        Path temp = Paths.get(snapshotPath + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            List<Entry> entries = new ArrayList<>(index.values());
+            buffer.putInt(SNAPSHOT_MAGIC).putInt(entries.size());
+            for (Entry entry : entries) {
+                byte[] name = entry.name.getBytes(StandardCharsets.UTF_8);
+                if (buffer.remaining() < 4 + 2 + name.length + STATE_BYTES) {
+                    writeBuffer(out);
+                }
+                synchronized (entry) {
+                    entry.dirty = false;
+                    buffer.putInt(entry.id).putShort((short) name.length).put(name)
+                            .putInt(entry.wins).putInt(entry.draws).putInt(entry.losses).putDouble(entry.rating);
+                }
+            }
+            writeBuffer(out);
+            out.force(false);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.truncate(0);
+        log.position(0);
+        writeLogHeader();
+    }
+
+    private void writeLogHeader() throws IOException {
+        buffer.putInt(LOG_MAGIC).putInt(1);
+        writeBuffer(log);
+    }
+
+    private void ensureRoom(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            writeBuffer(log);
+        }
+    }
+
+    private void writeBuffer(FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void loadSnapshot(Map<Integer, Entry> byId) throws IOException {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.remaining() < HEADER_BYTES || data.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a rating snapshot: " + snapshotPath);
+            }
+            int count = data.getInt();
+            for (int i = 0; i < count; i++) {
+                Entry entry = addEntry(data.getInt(), readName(data), byId);
+                entry.wins = data.getInt();
+                entry.draws = data.getInt();
+                entry.losses = data.getInt();
+                entry.rating = data.getDouble();
+            }
+        }
+    }
+
+    /**
+     * Applies the log on top of the snapshot
+     * @return Length of the log up to its last complete record, or 0 if there is no log
+     */
+    private long loadLog(Map<Integer, Entry> byId) throws IOException {
+        if (!Files.exists(logPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+            MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (data.remaining() < HEADER_BYTES) {
+                return 0;
+            }
+            if (data.getInt() != LOG_MAGIC) {
+                throw new IOException("Not a rating log: " + logPath);
+            }
+            data.getInt(); // version
+            while (data.hasRemaining()) {
+                int start = data.position();
+                byte type = data.get();
+                if (type == NAME_RECORD && data.remaining() >= 6) {
+                    int id = data.getInt();
+                    int length = data.getShort() & 0xFFFF;
+                    if (data.remaining() < length) {
+                        return start;
+                    }
+                    byte[] name = new byte[length];
+                    data.get(name);
+                    if (!byId.containsKey(id)) {
+                        addEntry(id, new String(name, StandardCharsets.UTF_8), byId);
+                    }
+                } else if (type == STATE_RECORD && data.remaining() >= STATE_BYTES - 1) {
+                    Entry entry = byId.get(data.getInt());
+                    int wins = data.getInt();
+                    int draws = data.getInt();
+                    int losses = data.getInt();
+                    double rating = data.getDouble();
+                    // Keep whichever state has seen the most games
+                    if (entry != null && wins + draws + losses >= entry.games()) {
+                        entry.wins = wins;
+                        entry.draws = draws;
+                        entry.losses = losses;
+                        entry.rating = rating;
+                    }
+                } else {
+                    return start;
+                }
+            }
+            return data.position();
+        }
+    }
+
+    private Entry addEntry(int id, String name, Map<Integer, Entry> byId) {
+        Entry entry = new Entry(id, name);
+        byId.put(id, entry);
+        index.put(name, entry);
+        nextId.accumulateAndGet(id + 1, Math::max);
+        return entry;
+    }
+
+    private static String readName(ByteBuffer data) {
+        byte[] name = new byte[data.getShort() & 0xFFFF];
+        data.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Records random games between many bots from several threads, then
+     * reports update throughput, file sizes and reload time
+     * @param args Optional games (default 5000000), players (default 1000) and threads (default: all cores)
+     * @throws Exception If the store cannot be written or the run is interrupted
+     */
+    public static void main(String[] args) throws Exception {
+        long games = (args.length > 0) ? Long.parseLong(args[0]) : 5_000_000;
+        int players = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Path base = Files.createTempDirectory("ratings").resolve("bench");
+        String[] names = new String[players];
+        for (int i = 0; i < players; i++) {
+            names[i] = "Bot " + i;
+        }
+
+        RatingStore store = open(base);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        SplittableRandom seeds = new SplittableRandom(42);
+        long start = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = seeds.split();
+            long share = games / threads + ((t < games % threads) ? 1 : 0);
+            pool.execute(() -> {
+                for (long g = 0; g < share; g++) {
+                    int a = random.nextInt(players);
+                    int b = (a + 1 + random.nextInt(players - 1)) % players;
+                    // Lower-numbered bots are stronger, so the ratings spread out
+                    int result = random.nextInt(3) == 0 ? GameRecord.RESULT_DRAW
+                            : (random.nextInt(a + b + 2) > a ? GameRecord.RESULT_FIRST_WINS : GameRecord.RESULT_SECOND_WINS);
+                    store.recordGame(names[a], names[b], result);
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.HOURS);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        store.close();
+
+        System.out.printf("🏆 %d games between %d players on %d threads in %.2f s (%.0f games/s)%n",
+                games, players, threads, seconds, games / seconds);
+        System.out.printf("💾 Log %d bytes, snapshot %d bytes%n", Files.size(Paths.get(base + ".log")),
+                Files.exists(Paths.get(base + ".snapshot")) ? Files.size(Paths.get(base + ".snapshot")) : 0);
+
+        try (RatingStore reloaded = open(base)) {
+            System.out.printf("📂 Reloaded %d players in %.2f ms%n", reloaded.size(), reloaded.getLoadNanos() / 1e6);
+            List<PlayerRating> top = reloaded.leaderboard();
+            for (int i = 0; i < Math.min(5, top.size()); i++) {
+                System.out.println("   " + top.get(i));
+            }
+            reloaded.compact();
+        }
+        try (RatingStore compacted = open(base)) {
+            System.out.printf("📦 After compaction: snapshot %d bytes, reloaded in %.2f ms%n",
+                    Files.size(Paths.get(base + ".snapshot")), compacted.getLoadNanos() / 1e6);
+        }
+    }
+}
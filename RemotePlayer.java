@@ -0,0 +1,129 @@
+import java.io.BufferedReader;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Represents a player on the other end of a network connection.
+ * Each turn the current board is sent with a request for a move, and the
+ * reply is checked before it is accepted; bad replies are answered with
+ * INVALID and asked for again.
+ *
+ * Protocol (one message per line):
+ *   server: BOARD &lt;cells&gt;   the board, row by row, '.' for empty cells
+ *   server: YOUR_MOVE        a move is expected
+ *   client: MOVE &lt;cell&gt;     the chosen cell index (row * size + col)
+ *   server: INVALID          the move was rejected; send another
+ *
+ * Demonstrates that a new kind of player only has to implement selectMove.
+ */
+public class RemotePlayer extends Player {
+    private final BufferedReader in;
+    private final Writer out;
+    private final StringBuilder message;
+
+    /**
+     * Constructor for a player reached through an open connection
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param in Reader for lines sent by the remote side
+     * @param out Writer for lines sent to the remote side
+     */
+    public RemotePlayer(String name, char symbol, BufferedReader in, Writer out) {
+        super(name, symbol);
+        this.in = in;
+        this.out = out;
+        this.message = new StringBuilder();
+    }
+
+    /**
+     * Overrides selectMove by asking the remote side.
+     * @throws UncheckedIOException if the connection fails or is closed
+     */
+    @Override
+    public int selectMove(Board board) {
+        message.setLength(0);
+        appendBoard(message, board);
+        message.append("YOUR_MOVE\n");
+        send(message);
+
+        while (true) {
+            int cell = parseMove(readLine(), board);
+            if (cell >= 0) {
+                return cell;
+            }
+            message.setLength(0);
+            message.append("INVALID\n");
+            send(message);
+        }
+    }
+
+    /**
+     * Sends one or more complete lines and flushes them in a single write
+     * @param lines Text ending in a newline
+     * @throws UncheckedIOException if the connection fails
+     */
+    public void send(CharSequence lines) {
+        try {
+            out.append(lines);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next line from the remote side
+     * @return The line, without its terminator
+     * @throws UncheckedIOException if the connection fails or is closed
+     */
+    public String readLine() {
+        try {
+            String line = in.readLine();
+            if (line == null) {
+                throw new EOFException(getName() + " disconnected");
+            }
+            return line;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends a BOARD line describing the board
+     * @param target Where to append
+     * @param board The board to describe
+     */
+    public static void appendBoard(StringBuilder target, Board board) {
+        int size = board.getSize();
+        target.append("BOARD ");
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                char cell = board.getCell(i, j);
+                target.append(cell == ' ' ? '.' : cell);
+            }
+        }
+        target.append('\n');
+    }
+
+    /**
+     * Parses a MOVE line and checks it against the board
+     * @return The cell index, or -1 if the line is not a legal move
+     */
+    private static int parseMove(String line, Board board) {
+        if (!line.startsWith("MOVE ")) {
+            return -1;
+        }
+        int cell;
+        try {
+            cell = Integer.parseInt(line.substring(5).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        if (cell < 0 || cell >= board.getCellCount() || !board.isCellEmpty(cell)) {
+            return -1;
+        }
+        return cell;
+    }
+}
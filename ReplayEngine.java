@@ -0,0 +1,217 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Plays stored games again, headless and as fast as possible, to check that
+ * nothing changed. Two checks are offered:
+ *   replay   - the recorded moves go back through Game and the rules, which
+ *              must accept every move and reach the stored result
+ *   simulate - the bots play again from the game's seed, which must produce
+ *              the same moves and result; a bot change that alters play shows up here
+ * Each game of a seeded series gets its seed from Seeds.forGame, so a series
+ * of millions of games is stored as one base seed plus a six-byte GameRecord
+ * per game, and no board histories are kept.
+ * Run with: java ReplayEngine [games] [seed] [file]
+ * Demonstrates deterministic re-simulation through the normal game loop.
+ */
+public class ReplayEngine {
+    private final PlayerFactory factory1;
+    private final PlayerFactory factory2;
+    private final GameRules rules;
+    private final ThreadLocal<Replayer> replayers;
+
+    /**
+     * Records the moves and result of each round a Game plays
+     */
+    private static final class Capture implements GameListener {
+        private Player first;
+        long record;
+
+        @Override
+        public void gameStarted(Board board, Player player1, Player player2) {
+            first = player1;
+            record = GameRecord.EMPTY;
+        }
+
+        @Override
+        public void moveMade(Board board, Player player, int cell) {
+            record = GameRecord.addMove(record, cell);
+        }
+
+        @Override
+        public void gameWon(Board board, Player winner) {
+            record = GameRecord.withResult(record,
+                    (winner == first) ? GameRecord.RESULT_FIRST_WINS : GameRecord.RESULT_SECOND_WINS);
+        }
+
+        @Override
+        public void gameDrawn(Board board) {
+            record = GameRecord.withResult(record, GameRecord.RESULT_DRAW);
+        }
+    }
+
+    /**
+     * One thread's reusable game between two scripted players
+     */
+    private static final class Replayer {
+        final ScriptedPlayer first = new ScriptedPlayer("Replay X", 'X');
+        final ScriptedPlayer second = new ScriptedPlayer("Replay O", 'O');
+        final Capture capture = new Capture();
+        final Game game;
+
+        Replayer(GameRules rules) {
+            this.game = new Game(first, second, rules, capture);
+        }
+    }
+
+    /**
+     * Constructor for an engine on the classic board
+     * @param factory1 Creates the first player (X) of each simulated game
+     * @param factory2 Creates the second player (O) of each simulated game
+     */
+    public ReplayEngine(PlayerFactory factory1, PlayerFactory factory2) {
+        this(factory1, factory2, new TicTacToeRules());
+    }
+
+    /**
+     * Constructor with explicit rules
+     * @param factory1 Creates the first player (X) of each simulated game
+     * @param factory2 Creates the second player (O) of each simulated game
+     * @param rules Rules played on the classic 3x3 board, the only board GameRecord covers
+     */
+    public ReplayEngine(PlayerFactory factory1, PlayerFactory factory2, GameRules rules) {
+        if (!rules.createBoard().isClassic()) {
+            throw new IllegalArgumentException("Game records only cover the classic 3x3 board");
+        }
+        this.factory1 = factory1;
+        this.factory2 = factory2;
+        this.rules = rules;
+        this.replayers = ThreadLocal.withInitial(() -> new Replayer(rules));
+    }
+
+    /**
+     * Plays one game between freshly created bots seeded from a single value
+     * @param seed The game's seed; the same seed always gives the same game
+     * @return The game's record, including the result
+     */
+    public long simulate(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Player player1 = factory1.create(random.split());
+        Player player2 = factory2.create(random.split());
+        player1.makeHeadless();
+        player2.makeHeadless();
+        Capture capture = new Capture();
+        new Game(player1, player2, rules, capture).playSingleRound();
+        return capture.record;
+    }
+
+    /**
+     * Plays a recorded game's moves through Game and the rules
+     * @param record The stored record
+     * @return The record of the replayed game, equal to the input when the rules agree
+     * @throws IllegalStateException if the record plays an occupied cell or stops before the game ends
+     */
+    public long replay(long record) {
+        Replayer replayer = replayers.get();
+        replayer.first.load(record, 0);
+        replayer.second.load(record, 1);
+        replayer.game.playSingleRound();
+        return replayer.capture.record;
+    }
+
+    /**
+     * Replays every record in parallel and compares the outcome
+     * @param records Stored records
+     * @return Counts of games that came out differently
+     */
+    public ReplayReport verifyReplays(long[] records) {
+        return verify("Replay through Game", records, i -> replay(records[i]));
+    }
+
+    /**
+     * Simulates every game of a seeded series in parallel and compares it with the stored record
+     * @param baseSeed The seed the series was played with
+     * @param records Stored records; game i was played with Seeds.forGame(baseSeed, i)
+     * @return Counts of games that came out differently
+     */
+    public ReplayReport verifySimulations(long baseSeed, long[] records) {
+        return verify("Simulation from seeds", records, i -> simulate(Seeds.forGame(baseSeed, i)));
+    }
+
+    private ReplayReport verify(String description, long[] records, IntToLongFunction rerun) {
+        AtomicLong differentResults = new AtomicLong();
+        AtomicLong differentMoves = new AtomicLong();
+        LongAccumulator firstMismatch = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        long start = System.nanoTime();
+        IntStream.range(0, records.length).parallel().forEach(i -> {
+            long expected = records[i];
+            long actual;
+            try {
+                actual = rerun.applyAsLong(i);
+            } catch (IllegalStateException e) {
+                actual = -1; // the game could not be played at all
+            }
+            if (actual == expected) {
+                return;
+            }
+            if (actual < 0 || GameRecord.result(actual) != GameRecord.result(expected)) {
+                differentResults.incrementAndGet();
+            } else {
+                differentMoves.incrementAndGet();
+            }
+            firstMismatch.accumulate(i);
+        });
+        long first = firstMismatch.get();
+        return new ReplayReport(description, records.length, differentResults.get(), differentMoves.get(),
+                (first == Long.MAX_VALUE) ? -1 : first, System.nanoTime() - start);
+    }
+
+    /**
+     * Records a seeded series of Smart Bot vs Computer games to a file, reads it
+     * back and checks it by replay and by simulation. Finally simulates the same
+     * seeds with a different second bot to show that a change in play is caught.
+     * @param args Optional number of games (default 200000), base seed (default 42) and record file
+     * @throws IOException if the record file cannot be written or read
+     */
+    public static void main(String[] args) throws IOException {
+        int games = (args.length > 0) ? Integer.parseInt(args[0]) : 200_000;
+        long seed = (args.length > 1) ? Long.parseLong(args[1]) : 42;
+        Path path = (args.length > 2) ? Paths.get(args[2]) : Paths.get("tictactoe-replay.ttr");
+
+        PlayerFactory smart = random -> new SmartComputerPlayer("Smart Bot", 'X', null, random);
+        PlayerFactory computer = random -> new ComputerPlayer("Computer", 'O', random);
+        ReplayEngine engine = new ReplayEngine(smart, computer);
+
+        long start = System.nanoTime();
+        long[] played = new long[games];
+        IntStream.range(0, games).parallel().forEach(i -> played[i] = engine.simulate(Seeds.forGame(seed, i)));
+        Files.deleteIfExists(path);
+        try (GameRecordWriter writer = new GameRecordWriter(path)) {
+            for (long record : played) {
+                writer.write(record);
+            }
+        }
+        System.out.printf("Recorded %d games with seed %d in %.2f s: %s (%d bytes)%n",
+                games, seed, (System.nanoTime() - start) / 1e9, path, Files.size(path));
+
+        long[] stored = new long[games];
+        try (GameRecordReader reader = new GameRecordReader(path)) {
+            int[] next = {0};
+            reader.scan(record -> stored[next[0]++] = record);
+        }
+        System.out.println(engine.verifyReplays(stored));
+        System.out.println(engine.verifySimulations(seed, stored));
+
+        PlayerFactory changedBot = random -> new SmartComputerPlayer("Smart Bot", 'O', null, random);
+        ReplayReport changed = new ReplayEngine(smart, changedBot).verifySimulations(seed, stored);
+        System.out.println("After swapping Computer for Smart Bot as O:");
+        System.out.println(changed);
+    }
+}
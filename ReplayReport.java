@@ -0,0 +1,76 @@
+/**
+ * Outcome of checking a batch of stored games against a fresh run.
+ * Demonstrates a simple value object returned by a long-running operation.
+ */
+public class ReplayReport {
+    private final String description;
+    private final long games;
+    private final long differentResults;
+    private final long differentMoves;
+    private final long firstMismatch;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor for a finished check
+     * @param description What was checked, for example "Replay through Game"
+     * @param games Games checked
+     * @param differentResults Games whose winner or draw changed
+     * @param differentMoves Games with the same result but a different move sequence
+     * @param firstMismatch Index of the first game that differed, or -1 if none did
+     * @param elapsedNanos Wall-clock time for the check
+     */
+    public ReplayReport(String description, long games, long differentResults, long differentMoves,
+                        long firstMismatch, long elapsedNanos) {
+        this.description = description;
+        this.games = games;
+        this.differentResults = differentResults;
+        this.differentMoves = differentMoves;
+        this.firstMismatch = firstMismatch;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getDifferentResults() {
+        return differentResults;
+    }
+
+    public long getDifferentMoves() {
+        return differentMoves;
+    }
+
+    public long getFirstMismatch() {
+        return firstMismatch;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Checks whether every game came out exactly as stored
+     * @return true if no result or move differed
+     */
+    public boolean isIdentical() {
+        return differentResults == 0 && differentMoves == 0;
+    }
+
+    /**
+     * Gets the throughput of the check
+     * @return Games checked per second of wall-clock time
+     */
+    public double getGamesPerSecond() {
+        return (elapsedNanos == 0) ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d games, %d different results, %d different move sequences%s%n"
+                        + "%.0f games/s over %.2f s",
+                description, games, differentResults, differentMoves,
+                (firstMismatch < 0) ? "" : " (first at game " + firstMismatch + ")",
+                getGamesPerSecond(), elapsedNanos / 1e9);
+    }
+}
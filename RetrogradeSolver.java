@@ -0,0 +1,272 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Solves every legal position of a small board by working backwards from the end.
+ * Positions are numbered by base-3 code (as in PositionCode, for any size) and
+ * solved layer by layer, from the full board down to the empty one: a position
+ * with n pieces only depends on positions with n + 1 pieces, which are already
+ * solved. Within a layer positions are independent, so each layer is split
+ * across threads by the high half of the code.
+ * Each code is split into a low and a high half whose piece counts and
+ * bitmasks come from small precomputed tables (3^8 entries for 4x4), so the
+ * positions of one layer are enumerated directly instead of scanning all codes.
+ * Works on boards of up to 16 cells: 3x3 and 4x4 with any win length.
+ * Finished positions are found with the rules' own checkWinner and isDraw, so
+ * rules with other win or draw conditions are solved correctly. TicTacToeRules
+ * is plain K-in-a-row, so for it the same test is done on precomputed line
+ * bitmasks instead, which is much faster.
+ * Demonstrates backward induction with primitive arrays only.
+ */
+public final class RetrogradeSolver {
+    /** Largest board the solver handles; 3^16 positions take 43 MB. */
+    public static final int MAX_CELLS = 16;
+
+    // Results of the terminal test besides a table entry
+    private static final int ONGOING = -1;
+    private static final int UNREACHABLE = 0;
+
+    private RetrogradeSolver() {
+    }
+
+    /**
+     * Solves a board using every core
+     * @param rules The rules; their board size and win length decide the game
+     * @return The solved database
+     */
+    public static EndgameDatabase solve(GameRules rules) {
+        return solve(rules, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Solves a board on a given number of threads
+     * @param rules The rules; their board size and win length decide the game
+     * @param threads Number of worker threads
+     * @return The solved database
+     */
+    public static EndgameDatabase solve(GameRules rules, int threads) {
+        Board board = rules.createBoard();
+        int size = board.getSize();
+        int cells = size * size;
+        if (cells > MAX_CELLS) {
+            throw new IllegalArgumentException("Retrograde solving supports at most " + MAX_CELLS
+                    + " cells, not " + cells);
+        }
+        long start = System.nanoTime();
+        // Subclasses of TicTacToeRules may change what counts as a win, so only the class itself is trusted
+        int[] lines = (rules.getClass() == TicTacToeRules.class) ? winLines(size, board.getWinLength()) : null;
+        ThreadLocal<Board> boards = ThreadLocal.withInitial(rules::createBoard);
+        int lowDigits = cells / 2;
+        HalfTable low = new HalfTable(lowDigits);
+        HalfTable high = new HalfTable(cells - lowDigits);
+        int lowCount = EndgameDatabase.pow3(lowDigits);
+        byte[] table = new byte[EndgameDatabase.pow3(cells)];
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, threads));
+        try {
+            for (int layer = cells; layer >= 0; layer--) {
+                int pieces = layer;
+                pool.submit(() -> IntStream.range(0, high.codeCount).parallel().forEach(hi ->
+                        solveSlice(table, hi, pieces, low, high, lowCount, lowDigits, cells, lines,
+                                rules, boards))).join();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return new EndgameDatabase(size, board.getWinLength(), table, System.nanoTime() - start, false);
+    }
+
+    /**
+     * Solves the positions of one layer whose high half is hi
+     */
+    private static void solveSlice(byte[] table, int hi, int pieces, HalfTable low, HalfTable high,
+                                   int lowCount, int lowDigits, int cells, int[] lines,
+                                   GameRules rules, ThreadLocal<Board> boards) {
+        int lowPieces = pieces - high.pieces(hi);
+        if (lowPieces < 0 || lowPieces > low.digits) {
+            return;
+        }
+        int[] codes = low.byPieces[lowPieces];
+        int highX = high.xMask[hi] << lowDigits;
+        int highO = high.oMask[hi] << lowDigits;
+        int base = hi * lowCount;
+        for (int lo : codes) {
+            int xCount = low.xCount[lo] + high.xCount[hi];
+            int oCount = low.oCount[lo] + high.oCount[hi];
+            if (xCount != oCount && xCount != oCount + 1) {
+                continue; // not reachable: the entry stays 0
+            }
+            int x = low.xMask[lo] | highX;
+            int o = low.oMask[lo] | highO;
+            int code = base + lo;
+            int terminal = (lines != null)
+                    ? terminalByLines(x, o, xCount, oCount, pieces == cells, lines)
+                    : terminalByRules(x, o, xCount, oCount, rules, boards.get());
+            if (terminal != ONGOING) {
+                table[code] = (byte) terminal;
+                continue;
+            }
+            table[code] = bestChild(table, code, x | o, (xCount == oCount) ? 1 : 2, cells);
+        }
+    }
+
+    /**
+     * Scores a position from its already solved children: win as fast as
+     * possible, otherwise draw, otherwise lose as slowly as possible
+     */
+    private static byte bestChild(byte[] table, int code, int occupied, int moverDigit, int cells) {
+        int winDistance = Integer.MAX_VALUE;
+        int drawDistance = -1;
+        int lossDistance = -1;
+        int power = 1;
+        for (int cell = 0; cell < cells; cell++, power *= 3) {
+            if ((occupied & (1 << cell)) != 0) {
+                continue;
+            }
+            int child = table[code + moverDigit * power];
+            int distance = EndgameDatabase.distanceOf(child) + 1;
+            switch (EndgameDatabase.outcomeOf(child)) {
+                case OpeningBook.OUTCOME_LOSS:
+                    winDistance = Math.min(winDistance, distance);
+                    break;
+                case OpeningBook.OUTCOME_DRAW:
+                    drawDistance = Math.max(drawDistance, distance);
+                    break;
+                default:
+                    lossDistance = Math.max(lossDistance, distance);
+                    break;
+            }
+        }
+        if (winDistance != Integer.MAX_VALUE) {
+            return EndgameDatabase.entry(OpeningBook.OUTCOME_WIN, winDistance);
+        }
+        if (drawDistance >= 0) {
+            return EndgameDatabase.entry(OpeningBook.OUTCOME_DRAW, drawDistance);
+        }
+        return EndgameDatabase.entry(OpeningBook.OUTCOME_LOSS, lossDistance);
+    }
+
+    /**
+     * Decides whether a position is over using line bitmasks
+     * @return A table entry, UNREACHABLE, or ONGOING
+     */
+    private static int terminalByLines(int x, int o, int xCount, int oCount, boolean full, int[] lines) {
+        boolean xWon = hasLine(x, lines);
+        boolean oWon = hasLine(o, lines);
+        if (xWon || oWon) {
+            // The player who just moved must be the only winner
+            boolean legal = xWon ? (!oWon && xCount == oCount + 1) : (xCount == oCount);
+            return legal ? EndgameDatabase.entry(OpeningBook.OUTCOME_LOSS, 0) : UNREACHABLE;
+        }
+        return full ? EndgameDatabase.entry(OpeningBook.OUTCOME_DRAW, 0) : ONGOING;
+    }
+
+    /**
+     * Decides whether a position is over by asking the rules about it
+     * @param board This thread's scratch board, overwritten with the position
+     * @return A table entry, UNREACHABLE, or ONGOING
+     */
+    private static int terminalByRules(int x, int o, int xCount, int oCount, GameRules rules, Board board) {
+        board.reset();
+        for (int bits = x; bits != 0; bits &= bits - 1) {
+            board.makeMove(Integer.numberOfTrailingZeros(bits), 'X');
+        }
+        for (int bits = o; bits != 0; bits &= bits - 1) {
+            board.makeMove(Integer.numberOfTrailingZeros(bits), 'O');
+        }
+        char winner = rules.checkWinner(board);
+        if (winner != ' ') {
+            // Only the player who just moved can have won. Positions where both have won are
+            // not caught here, but no game reaches them: their parents are already over
+            char justMoved = (xCount == oCount) ? 'O' : 'X';
+            return (winner == justMoved) ? EndgameDatabase.entry(OpeningBook.OUTCOME_LOSS, 0) : UNREACHABLE;
+        }
+        return rules.isDraw(board) ? EndgameDatabase.entry(OpeningBook.OUTCOME_DRAW, 0) : ONGOING;
+    }
+
+    private static boolean hasLine(int bits, int[] lines) {
+        for (int line : lines) {
+            if ((bits & line) == line) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds a bitmask for every run of winLength cells in a row, column or diagonal
+     */
+    static int[] winLines(int size, int winLength) {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        List<Integer> lines = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                for (int[] direction : directions) {
+                    int endRow = row + direction[0] * (winLength - 1);
+                    int endCol = col + direction[1] * (winLength - 1);
+                    if (endRow < 0 || endRow >= size || endCol < 0 || endCol >= size) {
+                        continue;
+                    }
+                    int mask = 0;
+                    for (int k = 0; k < winLength; k++) {
+                        mask |= 1 << ((row + direction[0] * k) * size + col + direction[1] * k);
+                    }
+                    lines.add(mask);
+                }
+            }
+        }
+        return lines.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Bitmasks and piece counts for every code of a few consecutive cells,
+     * with the codes grouped by how many pieces they hold
+     */
+    private static final class HalfTable {
+        final int digits;
+        final int codeCount;
+        final int[] xMask;
+        final int[] oMask;
+        final byte[] xCount;
+        final byte[] oCount;
+        final int[][] byPieces;
+
+        HalfTable(int digits) {
+            this.digits = digits;
+            this.codeCount = EndgameDatabase.pow3(digits);
+            this.xMask = new int[codeCount];
+            this.oMask = new int[codeCount];
+            this.xCount = new byte[codeCount];
+            this.oCount = new byte[codeCount];
+            int[] perPieces = new int[digits + 1];
+            for (int code = 0; code < codeCount; code++) {
+                int rest = code;
+                for (int cell = 0; cell < digits; cell++, rest /= 3) {
+                    if (rest % 3 == 1) {
+                        xMask[code] |= 1 << cell;
+                        xCount[code]++;
+                    } else if (rest % 3 == 2) {
+                        oMask[code] |= 1 << cell;
+                        oCount[code]++;
+                    }
+                }
+                perPieces[pieces(code)]++;
+            }
+            this.byPieces = new int[digits + 1][];
+            for (int p = 0; p <= digits; p++) {
+                byPieces[p] = new int[perPieces[p]];
+                perPieces[p] = 0;
+            }
+            for (int code = 0; code < codeCount; code++) {
+                int p = pieces(code);
+                byPieces[p][perPieces[p]++] = code;
+            }
+        }
+
+        int pieces(int code) {
+            return xCount[code] + oCount[code];
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Plays the moves of a recorded game instead of choosing its own.
+ * One record drives both sides: the first player replays moves 0, 2, 4, ...
+ * and the second player moves 1, 3, 5, ... A record that runs out early or
+ * plays an occupied cell is reported as an error rather than played on.
+ * Demonstrates inheritance used to feed stored data through the normal game loop.
+ */
+public class ScriptedPlayer extends Player {
+    private long record;
+    private int nextMove;
+
+    /**
+     * Constructor for a scripted player; it is headless like every new Player
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     */
+    public ScriptedPlayer(String name, char symbol) {
+        super(name, symbol);
+    }
+
+    /**
+     * Loads the game to replay
+     * @param record A packed GameRecord
+     * @param firstMove 0 for the player who moves first, 1 for the other player
+     */
+    public void load(long record, int firstMove) {
+        this.record = record;
+        this.nextMove = firstMove;
+    }
+
+    /**
+     * Overrides selectMove to return the next recorded move
+     * @param board The game board
+     * @return The recorded cell index
+     * @throws IllegalStateException if the record has no move left or the cell is taken
+     */
+    @Override
+    public int selectMove(Board board) {
+        if (nextMove >= GameRecord.moveCount(record)) {
+            throw new IllegalStateException("Record ends after " + GameRecord.moveCount(record)
+                    + " moves but the game is not over");
+        }
+        int cell = GameRecord.move(record, nextMove);
+        if (!board.isCellEmpty(cell)) {
+            throw new IllegalStateException("Record plays the occupied cell " + cell + " at move " + nextMove);
+        }
+        nextMove += 2;
+        return reveal(board, cell, "is replaying a recorded move...", null);
+    }
+}
@@ -0,0 +1,50 @@
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Hands out the random sources used by computer players.
+ * Without configuration every source is an unseeded Random, as before.
+ * Running with -Dtictactoe.seed=N makes every source a split of one
+ * SplittableRandom seeded with N, so the same choices in the menu replay the
+ * same bot moves. Headless drivers seed each game with forGame instead.
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class Seeds {
+    /** System property holding the seed for interactive games. */
+    public static final String SEED_PROPERTY = "tictactoe.seed";
+
+    private static final SplittableRandom ROOT = createRoot();
+
+    private Seeds() {
+    }
+
+    /**
+     * Creates a random source for a player or pacing, seeded when -Dtictactoe.seed is set
+     * @return A new random source
+     */
+    public static RandomGenerator newRandom() {
+        if (ROOT == null) {
+            return new Random();
+        }
+        synchronized (ROOT) {
+            return ROOT.split();
+        }
+    }
+
+    /**
+     * Derives the seed of one game in a numbered series, so a stored series
+     * only needs its base seed to be played again
+     * @param baseSeed Seed of the whole series
+     * @param index Game number within the series
+     * @return The game's seed
+     */
+    public static long forGame(long baseSeed, long index) {
+        return new SplittableRandom(baseSeed + index * 0x9E3779B97F4A7C15L).nextLong();
+    }
+
+    private static SplittableRandom createRoot() {
+        String seed = System.getProperty(SEED_PROPERTY);
+        return (seed == null) ? null : new SplittableRandom(Long.parseLong(seed.trim()));
+    }
+}
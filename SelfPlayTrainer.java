@@ -0,0 +1,237 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Trains a LearnedPlayer's value table by having it play itself.
+ * Training runs in rounds. In each round every worker thread takes its own
+ * copy of the table and plays headless games through Game and TicTacToeRules,
+ * with two learning players sharing that copy. At the end of the round the
+ * copies are averaged into the shared table, which the next round starts from.
+ * After each round the greedy player is measured against the solved game:
+ * the share of positions where it picks a perfect move, and its results
+ * against SmartComputerPlayer.
+ * Run with: java SelfPlayTrainer [rounds] [gamesPerRound] [threads] [file]
+ * Demonstrates data-parallel training with per-thread replicas and a merge step.
+ */
+public class SelfPlayTrainer {
+    private static final float LEARNING_RATE = 0.2f;
+    private static final float EXPLORATION_RATE = 0.1f;
+    private static final int EVALUATION_GAMES = 1000;
+
+    private final int threads;
+    private final SplittableRandom random;
+    private final OpeningBook book;
+    private IntFloatMap values;
+
+    /**
+     * Gives both learning players their rewards when a training game ends
+     */
+    private static final class Rewards implements GameListener {
+        private final LearnedPlayer first;
+        private final LearnedPlayer second;
+
+        Rewards(LearnedPlayer first, LearnedPlayer second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public void gameWon(Board board, Player winner) {
+            first.gameOver(winner == first ? 1f : 0f);
+            second.gameOver(winner == second ? 1f : 0f);
+        }
+
+        @Override
+        public void gameDrawn(Board board) {
+            first.gameOver(0.5f);
+            second.gameOver(0.5f);
+        }
+    }
+
+    /**
+     * Constructor for a trainer starting from an empty table
+     * @param threads Worker threads, each training its own copy of the table
+     * @param seed Seed for every random choice made in training
+     */
+    public SelfPlayTrainer(int threads, long seed) {
+        this.threads = Math.max(1, threads);
+        this.random = new SplittableRandom(seed);
+        this.book = OpeningBook.solve();
+        this.values = new IntFloatMap(1024);
+    }
+
+    /**
+     * Plays one round of self-play on every worker and merges the results
+     * @param games Games to play in the round, split across the workers
+     * @throws InterruptedException If interrupted while waiting for the workers
+     */
+    public void trainRound(long games) throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "self-play");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Callable<IntFloatMap>> tasks = new ArrayList<>();
+        for (int w = 0; w < threads; w++) {
+            long share = games / threads + ((w < games % threads) ? 1 : 0);
+            IntFloatMap replica = values.copy();
+            SplittableRandom workerRandom = random.split();
+            tasks.add(() -> {
+                LearnedPlayer first = new LearnedPlayer("Learner X", 'X', replica, workerRandom.split());
+                LearnedPlayer second = new LearnedPlayer("Learner O", 'O', replica, workerRandom.split());
+                first.makeHeadless();
+                second.makeHeadless();
+                first.setTraining(LEARNING_RATE, EXPLORATION_RATE);
+                second.setTraining(LEARNING_RATE, EXPLORATION_RATE);
+                Game game = new Game(first, second, new TicTacToeRules(), new Rewards(first, second));
+                for (long g = 0; g < share; g++) {
+                    game.playSingleRound();
+                }
+                return replica;
+            });
+        }
+        List<IntFloatMap> replicas = new ArrayList<>();
+        try {
+            for (Future<IntFloatMap> future : pool.invokeAll(tasks)) {
+                replicas.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Self-play worker failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        values = merge(replicas);
+    }
+
+    /**
+     * Averages the replicas. A position missing from a replica counts with the
+     * value it had before the round, which for a new position is UNKNOWN_VALUE.
+     */
+    private IntFloatMap merge(List<IntFloatMap> replicas) {
+        if (replicas.size() == 1) {
+            return replicas.get(0);
+        }
+        IntFloatMap merged = new IntFloatMap(replicas.get(0).size());
+        for (IntFloatMap replica : replicas) {
+            for (int slot = 0; slot < replica.slotCount(); slot++) {
+                int key = replica.keyAt(slot);
+                if (key < 0 || merged.get(key, -1f) >= 0) {
+                    continue;
+                }
+                float sum = 0;
+                for (IntFloatMap other : replicas) {
+                    sum += other.get(key, LearnedPlayer.UNKNOWN_VALUE);
+                }
+                merged.put(key, sum / replicas.size());
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Measures how often the greedy player chooses a perfect move, over every
+     * position reachable from the empty board where the game is not over
+     * @return Share of positions, between 0 and 1
+     */
+    public double perfectMoveRate() {
+        Board board = new Board();
+        LearnedPlayer playerX = new LearnedPlayer("Learner", 'X', values, random.split());
+        LearnedPlayer playerO = new LearnedPlayer("Learner", 'O', values, random.split());
+        playerX.makeHeadless();
+        playerO.makeHeadless();
+        int positions = 0;
+        int perfect = 0;
+        for (int code = 0; code < PositionCode.CODE_COUNT; code++) {
+            if (book.bestMove(code) < 0) {
+                continue; // not reachable, or the game is over
+            }
+            int xBits = PositionCode.xBits(code);
+            int oBits = PositionCode.oBits(code);
+            board.reset();
+            for (int cell = 0; cell < Board.CELLS; cell++) {
+                if ((xBits & (1 << cell)) != 0) {
+                    board.makeMove(cell, 'X');
+                } else if ((oBits & (1 << cell)) != 0) {
+                    board.makeMove(cell, 'O');
+                }
+            }
+            LearnedPlayer mover = (Integer.bitCount(xBits) == Integer.bitCount(oBits)) ? playerX : playerO;
+            int cell = mover.selectMove(board);
+            // A perfect move keeps the mover's result: the opponent's result after it is the mirror image
+            int expected = book.outcome(code + PositionCode.delta(book.bestMove(code), mover.getSymbol()));
+            if (book.outcome(code + PositionCode.delta(cell, mover.getSymbol())) == expected) {
+                perfect++;
+            }
+            positions++;
+        }
+        return (double) perfect / positions;
+    }
+
+    /**
+     * Plays the greedy player against SmartComputerPlayer, once as X and once as O
+     * @param games Games in each colour
+     * @return The two results, learner first and learner second
+     */
+    public MatchResult[] playSmart(long games) {
+        LearnedPlayer learnerX = new LearnedPlayer("Learner", 'X', values, random.split());
+        LearnedPlayer learnerO = new LearnedPlayer("Learner", 'O', values, random.split());
+        MatchResult asFirst = new MatchRunner(learnerX,
+                new SmartComputerPlayer("Smart Bot", 'O', book, random.split())).run(games);
+        MatchResult asSecond = new MatchRunner(new SmartComputerPlayer("Smart Bot", 'X', book, random.split()),
+                learnerO).run(games);
+        return new MatchResult[]{asFirst, asSecond};
+    }
+
+    // Getters
+    public IntFloatMap getValues() {
+        return values;
+    }
+
+    /**
+     * Trains a table, reporting speed, size and strength after every round,
+     * then saves it and times loading it back
+     * @param args Optional rounds (default 10), games per round (default 50000),
+     *             threads (default: all cores) and output file
+     * @throws IOException If the table cannot be saved or loaded
+     * @throws InterruptedException If interrupted while training
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int rounds = (args.length > 0) ? Integer.parseInt(args[0]) : 10;
+        long gamesPerRound = (args.length > 1) ? Long.parseLong(args[1]) : 50_000;
+        int threads = (args.length > 2) ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Path path = (args.length > 3) ? Paths.get(args[3]) : Paths.get("tictactoe-learned.bin");
+
+        SelfPlayTrainer trainer = new SelfPlayTrainer(threads, 42);
+        System.out.printf("Training on %d threads, %d games per round%n", threads, gamesPerRound);
+        System.out.println("Round   games/s  positions  table KB  perfect moves  vs Smart as X (L/D)  as O (L/D)");
+        long totalGames = 0;
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            trainer.trainRound(gamesPerRound);
+            double seconds = (System.nanoTime() - start) / 1e9;
+            totalGames += gamesPerRound;
+            MatchResult[] vsSmart = trainer.playSmart(EVALUATION_GAMES);
+            IntFloatMap values = trainer.getValues();
+            System.out.printf("%5d %9.0f %10d %9.1f %13.1f%% %14d/%-5d %8d/%d%n", round, gamesPerRound / seconds,
+                    values.size(), values.getMemoryBytes() / 1024.0, 100 * trainer.perfectMoveRate(),
+                    vsSmart[0].getPlayer2Wins(), vsSmart[0].getDraws(),
+                    vsSmart[1].getPlayer1Wins(), vsSmart[1].getDraws());
+        }
+
+        trainer.getValues().save(path);
+        long loadStart = System.nanoTime();
+        IntFloatMap loaded = IntFloatMap.load(path);
+        System.out.printf("Saved %d positions from %d games to %s (%d bytes), loaded in %.2f ms%n",
+                loaded.size(), totalGames, path, Files.size(path), (System.nanoTime() - loadStart) / 1e6);
+    }
+}
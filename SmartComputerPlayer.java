@@ -1,127 +1,134 @@
-import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.random.RandomGenerator;
 
 /**
- * Represents a smart computer player with strategic move selection.
+ * Represents a smart computer player that searches the game tree for the best move.
  * Demonstrates inheritance and advanced polymorphism.
  */
 public class SmartComputerPlayer extends Player {
-    private Random random;
+    private RandomGenerator random;
+    private NegamaxEngine engine;
+    private OpeningBook book;
+    private boolean goingForWin;
 
     public SmartComputerPlayer(String name, char symbol) {
-        super(name, symbol);
-        this.random = new Random();
+        this(name, symbol, null);
     }
 
     /**
-     * Overrides makeMove with intelligent strategy.
-     * Strategy: 1. Win if possible, 2. Block opponent, 3. Take center, 4. Take corner, 5. Random
+     * Constructor for a smart player that answers from a solved opening book
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param book Solved table to look moves up in, or null to search every move
      */
-    @Override
-    public int[] makeMove(Board board) {
-        System.out.println(getName() + " is thinking strategically...");
-        try {
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        int[] move;
-
-        // Try to win
-        move = findWinningMove(board, getSymbol());
-        if (move != null) {
-            System.out.println(getName() + " is going for the win!");
-            System.out.println(getName() + " chose: Row " + (move[0] + 1) + ", Column " + (move[1] + 1));
-            return move;
-        }
-
-        // Block opponent from winning
-        char opponentSymbol = (getSymbol() == 'X') ? 'O' : 'X';
-        move = findWinningMove(board, opponentSymbol);
-        if (move != null) {
-            System.out.println(getName() + " is blocking opponent!");
-            System.out.println(getName() + " chose: Row " + (move[0] + 1) + ", Column " + (move[1] + 1));
-            return move;
-        }
+    public SmartComputerPlayer(String name, char symbol, OpeningBook book) {
+        this(name, symbol, book, Seeds.newRandom());
+    }
 
-        // Take center if available
-        if (board.isCellEmpty(1, 1)) {
-            System.out.println(getName() + " chose: Row 2, Column 2 (Center)");
-            return new int[]{1, 1};
-        }
+    /**
+     * Constructor for a smart player with its own random source for tie-breaking
+     * @param name The player's name
+     * @param symbol The player's symbol ('X' or 'O')
+     * @param book Solved table to look moves up in, or null to search every move
+     * @param random Source used to choose between equally good moves
+     */
+    public SmartComputerPlayer(String name, char symbol, OpeningBook book, RandomGenerator random) {
+        super(name, symbol);
+        this.random = random;
+        this.engine = new NegamaxEngine();
+        this.book = book;
+        setPacing(MovePacing.fixed(1000));
+        setMoveListener(ConsoleMoveListener.INSTANCE);
+    }
 
-        // Take a corner
-        int[][] corners = {{0, 0}, {0, 2}, {2, 0}, {2, 2}};
-        for (int[] corner : corners) {
-            if (board.isCellEmpty(corner[0], corner[1])) {
-                System.out.println(getName() + " chose: Row " + (corner[0] + 1) + ", Column " + (corner[1] + 1));
-                return corner;
-            }
-        }
+    /**
+     * Overrides selectMove with a full game-tree search.
+     * Strategy on the classic board: one lookup in the opening book when one is set,
+     * otherwise negamax with alpha-beta pruning; equally good moves are picked at random.
+     * Larger boards use chooseHeuristicMove.
+     */
+    @Override
+    public int selectMove(Board board) {
+        int cell = chooseMove(board);
+        return reveal(board, cell, "is thinking strategically...", goingForWin ? "is going for the win!" : null);
+    }
 
-        // Take any available cell
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (board.isCellEmpty(i, j)) {
-                    System.out.println(getName() + " chose: Row " + (i + 1) + ", Column " + (j + 1));
-                    return new int[]{i, j};
-                }
-            }
-        }
+    /**
+     * Overrides selectMoveAsync: the search runs immediately and the thinking
+     * time is a scheduled delay rather than a sleeping thread.
+     * @param board The game board
+     * @return A future holding the chosen cell index
+     */
+    @Override
+    public CompletableFuture<Integer> selectMoveAsync(Board board) {
+        int cell = chooseMove(board);
+        return revealAsync(board, cell, "is thinking strategically...", goingForWin ? "is going for the win!" : null);
+    }
 
-        return null; // Should never reach here
+    /**
+     * Overrides getNodesSearched with the engine's running total
+     * @return Positions searched by the engine so far
+     */
+    @Override
+    public long getNodesSearched() {
+        return engine.getNodesSearched();
     }
 
     /**
-     * Finds a winning move for the given symbol
+     * Picks the move without any console output or delay
      * @param board The game board
-     * @param symbol The symbol to check for winning move
-     * @return The winning move [row, col] or null if none exists
+     * @return The chosen cell index
      */
-    private int[] findWinningMove(Board board, char symbol) {
-        // Check all empty cells
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (board.isCellEmpty(i, j)) {
-                    // Temporarily store the current cell value
-                    char originalValue = board.getCell(i, j);
-                    
-                    // Try this move
-                    board.makeMove(i, j, symbol);
-                    
-                    // Check if this creates a win
-                    boolean isWin = checkWinForSymbol(board, symbol);
-                    
-                    // Undo the move by restoring original value (should be ' ')
-                    board.makeMove(i, j, ' ');
-                    
-                    if (isWin) {
-                        return new int[]{i, j};
-                    }
-                }
-            }
+    private int chooseMove(Board board) {
+        int cell = -1;
+        goingForWin = false;
+        if (!board.isClassic()) {
+            cell = chooseHeuristicMove(board);
+        } else if (book != null) {
+            int code = PositionCode.encode(board);
+            cell = book.bestMove(code);
+            goingForWin = book.outcome(code) == OpeningBook.OUTCOME_WIN;
+        }
+        if (cell < 0 && board.isClassic()) {
+            cell = engine.bestMove(board, getSymbol(), random);
+            goingForWin = engine.getLastScore() > 0;
         }
-        return null;
+        return cell;
     }
 
     /**
-     * Checks if the given symbol has won
+     * Chooses a move on boards too large to search exhaustively.
+     * Strategy: 1. Win if possible, 2. Block opponent, 3. Extend the longest line
+     * (own first, then opponent's), 4. Stay close to the center.
+     * Reads the board only; nothing is placed and undone.
+     * @param board The game board
+     * @return The chosen cell index (row * size + col)
      */
-    private boolean checkWinForSymbol(Board board, char symbol) {
-        // Check rows and columns
-        for (int i = 0; i < 3; i++) {
-            if ((board.getCell(i, 0) == symbol && board.getCell(i, 1) == symbol && board.getCell(i, 2) == symbol) ||
-                (board.getCell(0, i) == symbol && board.getCell(1, i) == symbol && board.getCell(2, i) == symbol)) {
-                return true;
-            }
-        }
+    private int chooseHeuristicMove(Board board) {
+        char opponentSymbol = (getSymbol() == 'X') ? 'O' : 'X';
+        int size = board.getSize();
+        int winLength = board.getWinLength();
+        int center = size / 2;
+        int bestCell = -1;
+        int bestScore = Integer.MIN_VALUE;
 
-        // Check diagonals
-        if ((board.getCell(0, 0) == symbol && board.getCell(1, 1) == symbol && board.getCell(2, 2) == symbol) ||
-            (board.getCell(0, 2) == symbol && board.getCell(1, 1) == symbol && board.getCell(2, 0) == symbol)) {
-            return true;
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                if (!board.isCellEmpty(i, j)) {
+                    continue;
+                }
+                int own = board.longestLineThrough(getSymbol(), i, j);
+                int opponent = board.longestLineThrough(opponentSymbol, i, j);
+                int score = (own >= winLength ? 4_000_000 : 0)
+                        + (opponent >= winLength ? 2_000_000 : 0)
+                        + own * 1000 + opponent * 900
+                        - Math.abs(i - center) - Math.abs(j - center);
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestCell = i * size + j;
+                }
+            }
         }
-
-        return false;
+        return bestCell;
     }
 }
\ No newline at end of file
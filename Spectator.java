@@ -0,0 +1,23 @@
+/**
+ * Watches a game through a SpectatorHub. Events arrive in batches on one of
+ * the hub's dispatcher threads, never on the thread playing the game.
+ * A spectator that takes long to return delays the others on its dispatcher
+ * and, once it falls a full buffer behind, misses events instead of slowing the match.
+ * Demonstrates a callback interface with a default method.
+ */
+@FunctionalInterface
+public interface Spectator {
+    /**
+     * Receives the next events in the order they were published
+     * @param events Packed events (see SpectatorEvent); only valid until this method returns
+     * @param count Number of events at the start of the array
+     */
+    void onEvents(long[] events, int count);
+
+    /**
+     * Called when events were overwritten before this spectator could read them
+     * @param missed Number of events skipped
+     */
+    default void onOverrun(long missed) {
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Packs one game event for spectators into a long, so the hub stores and
+ * copies events as plain numbers:
+ *   bits 0-3   type (one of the TYPE_ constants)
+ *   bits 4-5   symbol: 0 none, 1 'X', 2 'O'
+ *   bits 8-23  cell played, or the board size for TYPE_GAME_STARTED
+ *   bits 24-39 move number (1 for the first move), or the win length for TYPE_GAME_STARTED
+ *   bits 40-63 game number, counted by the hub
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class SpectatorEvent {
+    public static final int TYPE_GAME_STARTED = 1;
+    public static final int TYPE_MOVE = 2;
+    public static final int TYPE_WON = 3;
+    public static final int TYPE_DRAWN = 4;
+
+    private static final int SYMBOL_SHIFT = 4;
+    private static final int CELL_SHIFT = 8;
+    private static final int MOVE_SHIFT = 24;
+    private static final int GAME_SHIFT = 40;
+
+    private SpectatorEvent() {
+    }
+
+    /**
+     * Encodes the start of a game
+     * @param game Game number
+     * @param size Board size
+     * @param winLength Symbols in a row needed to win
+     * @return The packed event
+     */
+    public static long gameStarted(long game, int size, int winLength) {
+        return pack(TYPE_GAME_STARTED, ' ', size, winLength, game);
+    }
+
+    /**
+     * Encodes a move
+     * @param game Game number
+     * @param symbol The symbol placed
+     * @param cell The cell index played
+     * @param moveNumber Number of symbols on the board after the move
+     * @return The packed event
+     */
+    public static long move(long game, char symbol, int cell, int moveNumber) {
+        return pack(TYPE_MOVE, symbol, cell, moveNumber, game);
+    }
+
+    /**
+     * Encodes the end of a game with a winner
+     * @param game Game number
+     * @param winner The winning symbol
+     * @param moveNumber Number of moves played
+     * @return The packed event
+     */
+    public static long won(long game, char winner, int moveNumber) {
+        return pack(TYPE_WON, winner, 0, moveNumber, game);
+    }
+
+    /**
+     * Encodes the end of a game in a draw
+     * @param game Game number
+     * @param moveNumber Number of moves played
+     * @return The packed event
+     */
+    public static long drawn(long game, int moveNumber) {
+        return pack(TYPE_DRAWN, ' ', 0, moveNumber, game);
+    }
+
+    /**
+     * Gets the kind of an event
+     * @param event The packed event
+     * @return One of the TYPE_ constants
+     */
+    public static int type(long event) {
+        return (int) event & 0xF;
+    }
+
+    /**
+     * Gets the symbol that moved or won
+     * @param event The packed event
+     * @return 'X', 'O' or ' ' if the event has no symbol
+     */
+    public static char symbol(long event) {
+        int symbol = (int) (event >>> SYMBOL_SHIFT) & 0x3;
+        return (symbol == 1) ? 'X' : (symbol == 2) ? 'O' : ' ';
+    }
+
+    /**
+     * Gets the cell played, or the board size of a TYPE_GAME_STARTED event
+     * @param event The packed event
+     * @return The cell index (row * size + col)
+     */
+    public static int cell(long event) {
+        return (int) (event >>> CELL_SHIFT) & 0xFFFF;
+    }
+
+    /**
+     * Gets the move number, or the win length of a TYPE_GAME_STARTED event
+     * @param event The packed event
+     * @return Moves played so far, counting this one
+     */
+    public static int moveNumber(long event) {
+        return (int) (event >>> MOVE_SHIFT) & 0xFFFF;
+    }
+
+    /**
+     * Gets the number of the game an event belongs to
+     * @param event The packed event
+     * @return The game number, starting at 1
+     */
+    public static long game(long event) {
+        return event >>> GAME_SHIFT;
+    }
+
+    /**
+     * Formats an event for logs, for example "game 3 move 5: X at 4"
+     * @param event The packed event
+     * @return A readable description
+     */
+    public static String toString(long event) {
+        switch (type(event)) {
+            case TYPE_GAME_STARTED:
+                return "game " + game(event) + " started: " + cell(event) + "x" + cell(event)
+                        + ", " + moveNumber(event) + " in a row";
+            case TYPE_MOVE:
+                return "game " + game(event) + " move " + moveNumber(event) + ": " + symbol(event)
+                        + " at " + cell(event);
+            case TYPE_WON:
+                return "game " + game(event) + " won by " + symbol(event);
+            case TYPE_DRAWN:
+                return "game " + game(event) + " drawn";
+            default:
+                return "unknown event " + Long.toHexString(event);
+        }
+    }
+
+    private static long pack(int type, char symbol, int cell, int moveNumber, long game) {
+        int symbolBits = (symbol == 'X') ? 1 : (symbol == 'O') ? 2 : 0;
+        return type | (long) symbolBits << SYMBOL_SHIFT | (long) (cell & 0xFFFF) << CELL_SHIFT
+                | (long) (moveNumber & 0xFFFF) << MOVE_SHIFT | game << GAME_SHIFT;
+    }
+}
@@ -0,0 +1,404 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Broadcasts game events to many spectators without ever blocking the game.
+ * Added to a Game as a listener, it encodes each event once into a long
+ * (see SpectatorEvent) and writes it into a fixed ring buffer. Only the game
+ * thread writes, so publishing is two array stores and one volatile store;
+ * it never waits for readers.
+ * Spectators are split across a few dispatcher threads. Each spectator has its
+ * own cursor into the ring, and its dispatcher copies up to BATCH events at a
+ * time and hands them over in one call. A spectator that falls more than a
+ * full ring behind skips ahead and is told how many events it missed.
+ * A spectator whose calls take longer than SLOW_NANOS several times in a row
+ * is moved to a separate slow-lane thread, so it only delays other slow
+ * spectators. One slow call is not enough, since any thread can be preempted.
+ * Run with: java SpectatorHub [spectators] [dispatchers] [games]
+ * Demonstrates a single-writer ring buffer with independent readers.
+ */
+public class SpectatorHub implements GameListener, AutoCloseable {
+    /** Most events handed to a spectator in one call. */
+    public static final int BATCH = 64;
+    /** Time in one call after which a spectator is moved to the slow lane. */
+    public static final long SLOW_NANOS = 1_000_000L;
+
+    private static final int SLOW_STRIKES = 3;
+
+    private final long[] events;
+    private final long[] publishNanos;
+    private final int mask;
+    private final AtomicLong published = new AtomicLong();
+    private final Dispatcher[] dispatchers;
+    private final Dispatcher slowLane;
+    private final AtomicLong nextDispatcher = new AtomicLong();
+    private long gameNumber;
+    private volatile boolean running = true;
+
+    /**
+     * A spectator's place in the ring. Fields other than the spectator are
+     * only written by its dispatcher thread.
+     */
+    public static final class Subscription {
+        private final Spectator spectator;
+        private volatile Dispatcher dispatcher;
+        private long cursor;
+        private int slowCalls;
+        private volatile long delivered;
+        private volatile long missed;
+
+        private Subscription(Spectator spectator, Dispatcher dispatcher, long cursor) {
+            this.spectator = spectator;
+            this.dispatcher = dispatcher;
+            this.cursor = cursor;
+        }
+
+        /**
+         * Stops delivering events to the spectator
+         */
+        public void cancel() {
+            dispatcher.remove(this);
+        }
+
+        /**
+         * Checks whether the spectator was moved to the slow lane
+         * @return true if several calls in a row took longer than SLOW_NANOS
+         */
+        public boolean isSlow() {
+            return dispatcher.slow;
+        }
+
+        // Getters
+        public long getDelivered() {
+            return delivered;
+        }
+
+        public long getMissed() {
+            return missed;
+        }
+    }
+
+    /**
+     * Constructor for a hub with a ring of the given size
+     * @param capacity Events kept for slow spectators; rounded up to a power of two
+     * @param dispatcherThreads Threads sharing the work of calling spectators
+     */
+    public SpectatorHub(int capacity, int dispatcherThreads) {
+        int size = Integer.highestOneBit(Math.max(BATCH, capacity - 1)) << 1;
+        this.events = new long[size];
+        this.publishNanos = new long[size];
+        this.mask = size - 1;
+        this.dispatchers = new Dispatcher[Math.max(1, dispatcherThreads)];
+        for (int i = 0; i < dispatchers.length; i++) {
+            dispatchers[i] = new Dispatcher("spectator-dispatch-" + i, false);
+            dispatchers[i].thread.start();
+        }
+        this.slowLane = new Dispatcher("spectator-dispatch-slow", true);
+        slowLane.thread.start();
+    }
+
+    /**
+     * Adds a spectator, who receives every event published from now on
+     * @param spectator The spectator
+     * @return A handle for statistics and cancelling
+     */
+    public Subscription subscribe(Spectator spectator) {
+        Dispatcher dispatcher = dispatchers[(int) (nextDispatcher.getAndIncrement() % dispatchers.length)];
+        Subscription subscription = new Subscription(spectator, dispatcher, published.get());
+        dispatcher.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Publishes an event. Must only be called from one thread at a time,
+     * normally the thread running the game.
+     * @param event A packed event from SpectatorEvent
+     */
+    public void publish(long event) {
+        long sequence = published.get();
+        int slot = (int) sequence & mask;
+        events[slot] = event;
+        publishNanos[slot] = System.nanoTime();
+        published.set(sequence + 1);
+        for (Dispatcher dispatcher : dispatchers) {
+            dispatcher.wake();
+        }
+        slowLane.wake();
+    }
+
+    @Override
+    public void gameStarted(Board board, Player player1, Player player2) {
+        gameNumber++;
+        publish(SpectatorEvent.gameStarted(gameNumber, board.getSize(), board.getWinLength()));
+    }
+
+    @Override
+    public void moveMade(Board board, Player player, int cell) {
+        publish(SpectatorEvent.move(gameNumber, player.getSymbol(), cell, board.getFilledCount()));
+    }
+
+    @Override
+    public void gameWon(Board board, Player winner) {
+        publish(SpectatorEvent.won(gameNumber, winner.getSymbol(), board.getFilledCount()));
+    }
+
+    @Override
+    public void gameDrawn(Board board) {
+        publish(SpectatorEvent.drawn(gameNumber, board.getFilledCount()));
+    }
+
+    /**
+     * Gets the number of events published so far
+     * @return Total events
+     */
+    public long getPublished() {
+        return published.get();
+    }
+
+    /**
+     * Gets the time from publishing an event to handing it to a spectator,
+     * measured for the newest event of every batch. Spectators in the slow
+     * lane are left out. Call after close.
+     * @return The combined histogram of every regular dispatcher
+     */
+    public LatencyHistogram getDeliveryLatency() {
+        LatencyHistogram total = new LatencyHistogram();
+        for (Dispatcher dispatcher : dispatchers) {
+            total.add(dispatcher.latency);
+        }
+        return total;
+    }
+
+    /**
+     * Delivers the remaining events and stops the dispatcher threads
+     */
+    @Override
+    public void close() {
+        running = false;
+        Dispatcher[] all = Arrays.copyOf(dispatchers, dispatchers.length + 1);
+        all[dispatchers.length] = slowLane;
+        for (Dispatcher dispatcher : all) {
+            LockSupport.unpark(dispatcher.thread);
+        }
+        for (Dispatcher dispatcher : all) {
+            try {
+                dispatcher.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * One thread serving a share of the spectators
+     */
+    private final class Dispatcher implements Runnable {
+        final Thread thread;
+        final boolean slow;
+        final AtomicBoolean sleeping = new AtomicBoolean();
+        final LatencyHistogram latency = new LatencyHistogram();
+        private final long[] batch = new long[BATCH];
+        private volatile Subscription[] subscriptions = new Subscription[0];
+
+        Dispatcher(String name, boolean slow) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+            this.slow = slow;
+        }
+
+        void wake() {
+            if (sleeping.get() && sleeping.compareAndSet(true, false)) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        synchronized void add(Subscription subscription) {
+            Subscription[] current = subscriptions;
+            Subscription[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = subscription;
+            subscriptions = next;
+        }
+
+        synchronized void remove(Subscription subscription) {
+            Subscription[] current = subscriptions;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == subscription) {
+                    Subscription[] next = Arrays.copyOf(current, current.length - 1);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    subscriptions = next;
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                boolean stopping = !running;
+                boolean busy = false;
+                for (Subscription subscription : subscriptions) {
+                    // Catch each spectator up to where the writer was, then move on
+                    long target = published.get();
+                    while (subscription.cursor < target && deliver(subscription)) {
+                        busy = true;
+                    }
+                }
+                if (busy) {
+                    continue;
+                }
+                if (stopping) {
+                    return;
+                }
+                sleeping.set(true);
+                if (!hasWork() && running) {
+                    LockSupport.park(this);
+                }
+                sleeping.set(false);
+            }
+        }
+
+        private boolean hasWork() {
+            long end = published.get();
+            for (Subscription subscription : subscriptions) {
+                if (subscription.cursor != end) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Hands the next batch to one spectator
+         * @return true if any events were delivered or skipped
+         */
+        private boolean deliver(Subscription subscription) {
+            long start = subscription.cursor;
+            long end = Math.min(published.get(), start + BATCH);
+            if (start == end) {
+                return false;
+            }
+            for (long sequence = start; sequence < end; sequence++) {
+                batch[(int) (sequence - start)] = events[(int) sequence & mask];
+            }
+            long newestNanos = publishNanos[(int) (end - 1) & mask];
+
+            // Anything older than one ring behind the writer may have been overwritten while copying
+            long oldestIntact = published.get() - events.length + 1;
+            if (oldestIntact > start) {
+                long resume = Math.max(oldestIntact, end);
+                subscription.missed += resume - start;
+                subscription.cursor = resume;
+                subscription.spectator.onOverrun(resume - start);
+                return true;
+            }
+            subscription.cursor = end;
+            subscription.delivered += end - start;
+            long before = System.nanoTime();
+            subscription.spectator.onEvents(batch, (int) (end - start));
+            long after = System.nanoTime();
+            latency.record(after - newestNanos);
+            subscription.slowCalls = (after - before > SLOW_NANOS) ? subscription.slowCalls + 1 : 0;
+            if (!slow && subscription.slowCalls >= SLOW_STRIKES) {
+                // The new lane only reads the cursor after add publishes the subscription
+                remove(subscription);
+                subscription.dispatcher = slowLane;
+                slowLane.add(subscription);
+                slowLane.wake();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Plays random games, publishing every event to many counting spectators,
+     * and reports publish cost, delivery latency, missed events and memory per spectator.
+     * A few spectators are deliberately slow to show that they only hurt themselves.
+     * @param args Optional spectators (default 5000), dispatcher threads (default 2) and games (default 2000)
+     * @throws InterruptedException if interrupted while pacing the games
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int spectatorCount = (args.length > 0) ? Integer.parseInt(args[0]) : 5000;
+        int threads = (args.length > 1) ? Integer.parseInt(args[1]) : 2;
+        int games = (args.length > 2) ? Integer.parseInt(args[2]) : 2000;
+
+        Runtime runtime = Runtime.getRuntime();
+        SpectatorHub hub = new SpectatorHub(4096, threads);
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        List<Subscription> subscriptions = new ArrayList<>(spectatorCount);
+        for (int i = 0; i < spectatorCount; i++) {
+            LongAdder moves = new LongAdder();
+            subscriptions.add(hub.subscribe((batch, count) -> {
+                for (int e = 0; e < count; e++) {
+                    if (SpectatorEvent.type(batch[e]) == SpectatorEvent.TYPE_MOVE) {
+                        moves.increment();
+                    }
+                }
+            }));
+        }
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        Subscription slow = hub.subscribe((batch, count) -> LockSupport.parkNanos(20_000_000L));
+
+        SplittableRandom random = new SplittableRandom(7);
+        Board board = new Board();
+        Player player1 = new ComputerPlayer("Computer X", 'X', random.split());
+        Player player2 = new ComputerPlayer("Computer O", 'O', random.split());
+        player1.makeHeadless();
+        player2.makeHeadless();
+        GameRules rules = new TicTacToeRules();
+        LatencyHistogram publishCost = new LatencyHistogram();
+
+        long start = System.nanoTime();
+        for (int g = 0; g < games; g++) {
+            board.reset();
+            hub.gameStarted(board, player1, player2);
+            Player current = player1;
+            while (true) {
+                int cell = current.selectMove(board);
+                board.makeMove(cell, current.getSymbol());
+                long before = System.nanoTime();
+                hub.moveMade(board, current, cell);
+                publishCost.record(System.nanoTime() - before);
+                int row = cell / Board.SIZE;
+                int col = cell % Board.SIZE;
+                if (rules.checkWinner(board, row, col) != ' ') {
+                    hub.gameWon(board, current);
+                    break;
+                }
+                if (rules.isDraw(board, row, col)) {
+                    hub.gameDrawn(board);
+                    break;
+                }
+                current = (current == player1) ? player2 : player1;
+                LockSupport.parkNanos(100_000L); // roughly 10,000 moves per second
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        hub.close();
+
+        long delivered = 0;
+        long missed = 0;
+        for (Subscription subscription : subscriptions) {
+            delivered += subscription.getDelivered();
+            missed += subscription.getMissed();
+        }
+        System.out.printf("%d spectators on %d dispatcher threads, %d games, %d events in %.2f s%n",
+                spectatorCount, threads, games, hub.getPublished(), elapsed / 1e9);
+        System.out.println("Publish cost:     " + publishCost.summaryMicros());
+        System.out.println("Delivery latency: " + hub.getDeliveryLatency().summaryMicros());
+        System.out.printf("Delivered %,d events (%,.0f/s), missed %d%n",
+                delivered, delivered / (elapsed / 1e9), missed);
+        System.out.printf("Slow spectator: delivered %d, missed %d, moved to the slow lane: %b%n",
+                slow.getDelivered(), slow.getMissed(), slow.isSlow());
+        System.out.printf("Memory per spectator: about %d bytes%n", (heapAfter - heapBefore) / spectatorCount);
+    }
+}
@@ -1,16 +1,41 @@
-import java.util.Scanner;
 import java.util.InputMismatchException;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
 
 /**
  * Main class that serves as the entry point for the Tic-Tac-Toe game.
  * Handles user interface and game initialization.
+ * Nothing is built before the menu is shown: input, bots, their pacing,
+ * the opening book and the rating store are created when a mode needs them.
+ * Run with -Dtictactoe.startupTiming=true to print the time from JVM start
+ * to the first prompt.
+ *
+ * Starting faster with a class-data sharing (AppCDS) archive. The archive
+ * holds the classes already parsed and verified, so later runs map them in
+ * instead of loading them from the jar. Application classes must come from a
+ * jar for this; a directory on the class path is not archived. The cds
+ * profile in pom.xml builds the jar and the archive together:
+ *   mvn -P cds package
+ *   java -XX:SharedArchiveFile=target/tictactoe.jsa -jar target/tictactoe.jar
+ * The build opens the menu once, chooses Exit and writes the archive when the
+ * JVM exits. Rebuild it whenever the jar or the JDK changes; the JVM ignores a
+ * stale archive and starts normally.
  * Demonstrates exception handling and user interaction.
  */
 public class TicTacToeGame {
-    private static Scanner scanner = new Scanner(System.in);
+    /** System property that turns on the time-to-first-prompt report. */
+    public static final String STARTUP_TIMING_PROPERTY = "tictactoe.startupTiming";
+
+    // Computer opponents take a varying moment to "think", like a person would
+    private static MovePacing botPacing; // created with the first bot
+    private static RatingStore ratings; // opened when the first game starts
 
     public static void main(String[] args) {
         displayWelcome();
+        if (Boolean.getBoolean(STARTUP_TIMING_PROPERTY)) {
+            reportStartupTime();
+        }
         
         boolean exitProgram = false;
         
@@ -29,22 +54,78 @@ public class TicTacToeGame {
                         startHumanVsSmartComputer();
                         break;
                     case 4:
+                        startHumanVsBookComputer();
+                        break;
+                    case 5:
+                        startGomoku();
+                        break;
+                    case 6:
                         System.out.println("\nThank you for playing! Goodbye! 👋");
                         exitProgram = true;
                         break;
                     default:
-                        System.out.println("❌ Invalid choice! Please enter 1-4.");
+                        System.out.println("❌ Invalid choice! Please enter 1-6.");
                 }
             } catch (InputMismatchException e) {
                 System.out.println("❌ Invalid input! Please enter a number.");
-                scanner.nextLine(); // Clear invalid input
+                ConsoleInput.nextLine(); // Clear invalid input
             } catch (Exception e) {
                 System.out.println("❌ An error occurred: " + e.getMessage());
-                scanner.nextLine();
+                ConsoleInput.nextLine();
             }
         }
         
-        scanner.close();
+        closeRatings();
+    }
+
+    /**
+     * Plays a game, keeping results and ratings in the rating store when it is available
+     * @param game The game to play
+     */
+    private static void play(Game game) {
+        if (ratings == null) {
+            try {
+                ratings = RatingStore.open(Paths.get("tictactoe-ratings"));
+            } catch (IOException e) {
+                System.out.println("⚠️ Ratings are not available: " + e.getMessage());
+            }
+        }
+        if (ratings != null) {
+            game.addListener(new RatingRecorder(ratings));
+        }
+        game.start();
+    }
+
+    /**
+     * Gets the pacing shared by every bot opponent, creating it on first use
+     * @return Human-like pacing of 0.6 to 1.4 seconds per move
+     */
+    private static MovePacing botPacing() {
+        if (botPacing == null) {
+            botPacing = MovePacing.humanLike(600, 1400, Seeds.newRandom());
+        }
+        return botPacing;
+    }
+
+    /**
+     * Prints how long the JVM took to reach the menu. Called just before the
+     * first prompt, so the management classes it loads do not count.
+     */
+    private static void reportStartupTime() {
+        long now = System.currentTimeMillis();
+        long start = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.err.println("⏱️ First prompt " + (now - start) + " ms after JVM start");
+    }
+
+    private static void closeRatings() {
+        if (ratings == null) {
+            return;
+        }
+        try {
+            ratings.close();
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not save ratings: " + e.getMessage());
+        }
     }
 
     /**
@@ -66,24 +147,26 @@ public class TicTacToeGame {
         System.out.println("1. Human vs Human");
         System.out.println("2. Human vs Computer (Easy)");
         System.out.println("3. Human vs Smart Computer");
-        System.out.println("4. Exit");
+        System.out.println("4. Human vs Smart Computer (Opening Book)");
+        System.out.println("5. Gomoku 15x15, 5 in a row (Human vs Smart Computer)");
+        System.out.println("6. Exit");
         System.out.print("\nEnter your choice: ");
         
-        return scanner.nextInt();
+        return ConsoleInput.nextInt();
     }
 
     /**
      * Starts a Human vs Human game
      */
     private static void startHumanVsHuman() {
-        scanner.nextLine(); // Consume newline
+        ConsoleInput.nextLine(); // Consume newline
         
         System.out.println("\n--- Human vs Human Mode ---");
         System.out.print("Enter Player 1 name: ");
-        String player1Name = scanner.nextLine();
+        String player1Name = ConsoleInput.nextLine();
         
         System.out.print("Enter Player 2 name: ");
-        String player2Name = scanner.nextLine();
+        String player2Name = ConsoleInput.nextLine();
         
         // Create two human players - demonstrates polymorphism
         Player player1 = new HumanPlayer(player1Name, 'X');
@@ -91,46 +174,96 @@ public class TicTacToeGame {
         
         // Start the game
         Game game = new Game(player1, player2);
-        game.start();
+        play(game);
     }
 
     /**
      * Starts a Human vs Computer game
      */
     private static void startHumanVsComputer() {
-        scanner.nextLine(); // Consume newline
+        ConsoleInput.nextLine(); // Consume newline
         
         System.out.println("\n--- Human vs Computer Mode ---");
         System.out.print("Enter your name: ");
-        String playerName = scanner.nextLine();
+        String playerName = ConsoleInput.nextLine();
         
         // Create human and computer players - demonstrates polymorphism
         Player player1 = new HumanPlayer(playerName, 'X');
         Player player2 = new ComputerPlayer("Computer", 'O');
+        player2.setPacing(botPacing());
         
         // Start the game
         Game game = new Game(player1, player2);
-        game.start();
+        play(game);
     }
 
     /**
      * Starts a Human vs Smart Computer game
      */
     private static void startHumanVsSmartComputer() {
-        scanner.nextLine(); // Consume newline
+        ConsoleInput.nextLine(); // Consume newline
         
         System.out.println("\n--- Human vs Smart Computer Mode ---");
         System.out.print("Enter your name: ");
-        String playerName = scanner.nextLine();
+        String playerName = ConsoleInput.nextLine();
         
         // Create human and smart computer players - demonstrates polymorphism
         Player player1 = new HumanPlayer(playerName, 'X');
         Player player2 = new SmartComputerPlayer("Smart Bot", 'O');
+        player2.setPacing(botPacing());
         
         System.out.println("\n⚠️  Warning: The Smart Bot is unbeatable! Good luck! 🤖");
         
         // Start the game
         Game game = new Game(player1, player2);
-        game.start();
+        play(game);
+    }
+
+    /**
+     * Starts a Human vs Smart Computer game where the bot answers from the opening book.
+     * The book is loaded from disk, or solved and saved on first use.
+     */
+    private static void startHumanVsBookComputer() {
+        ConsoleInput.nextLine(); // Consume newline
+        
+        System.out.println("\n--- Human vs Smart Computer (Opening Book) Mode ---");
+        OpeningBook book;
+        try {
+            book = OpeningBook.loadOrSolve(OpeningBook.DEFAULT_PATH);
+        } catch (IOException e) {
+            System.out.println("⚠️  Could not use " + OpeningBook.DEFAULT_PATH + " (" + e.getMessage() + "), solving in memory.");
+            book = OpeningBook.solve();
+        }
+        System.out.println(book);
+        
+        System.out.print("Enter your name: ");
+        String playerName = ConsoleInput.nextLine();
+        
+        Player player1 = new HumanPlayer(playerName, 'X');
+        Player player2 = new SmartComputerPlayer("Book Bot", 'O', book);
+        player2.setPacing(botPacing());
+        
+        // Start the game
+        Game game = new Game(player1, player2);
+        play(game);
+    }
+
+    /**
+     * Starts a Gomoku-style game on a 15x15 board with 5 in a row to win
+     */
+    private static void startGomoku() {
+        ConsoleInput.nextLine(); // Consume newline
+        
+        System.out.println("\n--- Gomoku Mode (15x15, 5 in a row) ---");
+        System.out.print("Enter your name: ");
+        String playerName = ConsoleInput.nextLine();
+        
+        Player player1 = new HumanPlayer(playerName, 'X');
+        Player player2 = new SmartComputerPlayer("Smart Bot", 'O');
+        player2.setPacing(botPacing());
+        
+        // Same game flow, different rules - the rules decide the board size
+        Game game = new Game(player1, player2, new TicTacToeRules(15, 5));
+        play(game);
     }
 }
\ No newline at end of file
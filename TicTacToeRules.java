@@ -1,8 +1,39 @@
 /**
- * Implementation of game rules for Tic-Tac-Toe.
+ * Implementation of game rules for Tic-Tac-Toe and its N x N, K-in-a-row variants.
  * Demonstrates interface implementation and encapsulation of game logic.
  */
 public class TicTacToeRules implements GameRules {
+    private final int size;
+    private final int winLength;
+
+    /**
+     * Constructor for the classic 3x3, three-in-a-row game
+     */
+    public TicTacToeRules() {
+        this(Board.SIZE, Board.SIZE);
+    }
+
+    /**
+     * Constructor for a larger variant, for example 15x15 with 5 in a row
+     * @param size Number of rows and columns
+     * @param winLength Number of symbols in a row needed to win
+     */
+    public TicTacToeRules(int size, int winLength) {
+        if (size < 1 || winLength < 1 || winLength > size) {
+            throw new IllegalArgumentException("Invalid rules: " + size + "x" + size + " with " + winLength + " in a row");
+        }
+        this.size = size;
+        this.winLength = winLength;
+    }
+
+    /**
+     * Creates an empty board matching these rules
+     * @return A new size x size board
+     */
+    @Override
+    public Board createBoard() {
+        return new Board(size, winLength);
+    }
 
     /**
      * Checks all possible winning conditions
@@ -11,38 +42,13 @@ public class TicTacToeRules implements GameRules {
      */
     @Override
     public char checkWinner(Board board) {
-        // Check rows
-        for (int i = 0; i < 3; i++) {
-            if (board.getCell(i, 0) != ' ' &&
-                board.getCell(i, 0) == board.getCell(i, 1) &&
-                board.getCell(i, 1) == board.getCell(i, 2)) {
-                return board.getCell(i, 0);
-            }
+        // On the classic board each line check is one AND and compare
+        if (board.hasWon('X')) {
+            return 'X';
         }
-
-        // Check columns
-        for (int j = 0; j < 3; j++) {
-            if (board.getCell(0, j) != ' ' &&
-                board.getCell(0, j) == board.getCell(1, j) &&
-                board.getCell(1, j) == board.getCell(2, j)) {
-                return board.getCell(0, j);
-            }
-        }
-
-        // Check main diagonal (top-left to bottom-right)
-        if (board.getCell(0, 0) != ' ' &&
-            board.getCell(0, 0) == board.getCell(1, 1) &&
-            board.getCell(1, 1) == board.getCell(2, 2)) {
-            return board.getCell(0, 0);
+        if (board.hasWon('O')) {
+            return 'O';
         }
-
-        // Check anti-diagonal (top-right to bottom-left)
-        if (board.getCell(0, 2) != ' ' &&
-            board.getCell(0, 2) == board.getCell(1, 1) &&
-            board.getCell(1, 1) == board.getCell(2, 0)) {
-            return board.getCell(0, 2);
-        }
-
         return ' '; // No winner
     }
 
@@ -56,15 +62,44 @@ public class TicTacToeRules implements GameRules {
         return board.isFull() && checkWinner(board) == ' ';
     }
 
+    /**
+     * Checks only the lines through the last move, so the cost does not grow with board size
+     * @param board The game board
+     * @param row The row index of the last move
+     * @param col The column index of the last move
+     * @return The symbol at that cell if it completed a line, otherwise ' '
+     */
+    @Override
+    public char checkWinner(Board board, int row, int col) {
+        char symbol = board.getCell(row, col);
+        if (symbol != ' ' && board.hasWonThrough(symbol, row, col)) {
+            return symbol;
+        }
+        return ' '; // No winner
+    }
+
+    /**
+     * Checks for a draw after the last move.
+     * isFull is a running count, so the line check only runs once the board is full.
+     * @param board The game board
+     * @param row The row index of the last move
+     * @param col The column index of the last move
+     * @return true if draw, false otherwise
+     */
+    @Override
+    public boolean isDraw(Board board, int row, int col) {
+        return board.isFull() && checkWinner(board, row, col) == ' ';
+    }
+
     /**
      * Validates if a move can be made at the specified position
      * @param board The game board
-     * @param row The row index (0-2)
-     * @param col The column index (0-2)
+     * @param row The row index (0 to size - 1)
+     * @param col The column index (0 to size - 1)
      * @return true if valid, false otherwise
      */
     @Override
     public boolean isValidMove(Board board, int row, int col) {
-        return row >= 0 && row < 3 && col >= 0 && col < 3 && board.isCellEmpty(row, col);
+        return board.isInBounds(row, col) && board.isCellEmpty(row, col);
     }
 }
\ No newline at end of file
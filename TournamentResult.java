@@ -0,0 +1,55 @@
+/**
+ * Totals from a parallel tournament, plus how much each worker thread did.
+ * Demonstrates extending a value object with extra detail.
+ */
+public class TournamentResult extends MatchResult {
+    private final long[] workerGames;
+    private final long[] workerNanos;
+
+    /**
+     * Constructor for a finished tournament
+     * @param player1Name Name of the first player
+     * @param player2Name Name of the second player
+     * @param player1Wins Games won by the first player
+     * @param player2Wins Games won by the second player
+     * @param draws Games drawn
+     * @param elapsedNanos Wall-clock time for the whole tournament
+     * @param moveLatency Combined move latencies of every worker
+     * @param workerGames Games played by each worker
+     * @param workerNanos Time each worker spent playing
+     */
+    public TournamentResult(String player1Name, String player2Name, long player1Wins, long player2Wins,
+                            long draws, long elapsedNanos, LatencyHistogram moveLatency,
+                            long[] workerGames, long[] workerNanos) {
+        super(player1Name, player2Name, player1Wins, player2Wins, draws, elapsedNanos, moveLatency);
+        this.workerGames = workerGames.clone();
+        this.workerNanos = workerNanos.clone();
+    }
+
+    public int getWorkerCount() {
+        return workerGames.length;
+    }
+
+    public long getWorkerGames(int worker) {
+        return workerGames[worker];
+    }
+
+    /**
+     * Gets the throughput of one worker while it was busy
+     * @param worker Worker index
+     * @return Games per second for that worker
+     */
+    public double getWorkerGamesPerSecond(int worker) {
+        return (workerNanos[worker] == 0) ? 0 : workerGames[worker] * 1e9 / workerNanos[worker];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(super.toString());
+        for (int i = 0; i < workerGames.length; i++) {
+            out.append(String.format("%n  worker %d: %d games, %.0f games/s",
+                    i, workerGames[i], getWorkerGamesPerSecond(i)));
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.SplittableRandom;
+import tictactoe.jmh.Workload;
+
+/**
+ * The operations measured by the JMH benchmarks in tictactoe.jmh, with the
+ * same inputs as Benchmarks: 1,024 random mid-game boards from seed 42.
+ * Lives in the default package so it can reach the game classes.
+ * Demonstrates a small utility class with only static helpers.
+ */
+public final class BenchmarkWorkloads {
+    private static final int MASK = Benchmarks.BOARD_COUNT - 1;
+
+    private BenchmarkWorkloads() {
+    }
+
+    /**
+     * Creates one workload
+     * @param name One of rules.checkWinner, rules.checkWinnerLastMove, rules.isDraw,
+     *             smart.selectMove, computer.selectMove, evaluator.evaluate, game.smartVsComputer
+     * @return The workload
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Workload create(String name) {
+        SplittableRandom random = new SplittableRandom(42);
+        GameRules rules = new TicTacToeRules();
+        int[] lastMoves = new int[Benchmarks.BOARD_COUNT];
+        Board[] boards = Benchmarks.midGameBoards(rules, random, lastMoves);
+
+        switch (name) {
+            case "rules.checkWinner":
+                return i -> rules.checkWinner(boards[i & MASK]);
+            case "rules.checkWinnerLastMove":
+                return i -> rules.checkWinner(boards[i & MASK], lastMoves[i & MASK] / Board.SIZE,
+                        lastMoves[i & MASK] % Board.SIZE);
+            case "rules.isDraw":
+                return i -> rules.isDraw(boards[i & MASK]) ? 1 : 0;
+            case "smart.selectMove": {
+                SmartComputerPlayer smart = new SmartComputerPlayer("Smart Bot", 'X', null, random.split());
+                smart.makeHeadless();
+                return new Workload() {
+                    @Override
+                    public long run(int index) {
+                        return smart.selectMove(boards[index & MASK]);
+                    }
+
+                    @Override
+                    public void reset() {
+                        NegamaxEngine.clearTable();
+                    }
+                };
+            }
+            case "computer.selectMove": {
+                ComputerPlayer easy = new ComputerPlayer("Computer", 'O', random.split());
+                easy.makeHeadless();
+                return i -> easy.selectMove(boards[i & MASK]);
+            }
+            case "evaluator.evaluate": {
+                PositionEvaluator evaluator = new PositionEvaluator(rules);
+                int[] codes = new int[Benchmarks.BOARD_COUNT];
+                for (int i = 0; i < codes.length; i++) {
+                    codes[i] = PositionCode.encode(boards[i]);
+                }
+                return i -> evaluator.evaluate(codes[i & MASK]);
+            }
+            case "game.smartVsComputer": {
+                MatchRunner match = Benchmarks.headlessRunner(random);
+                return i -> match.playGame();
+            }
+            default:
+                throw new IllegalArgumentException("Unknown workload: " + name);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package tictactoe.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH versions of the Benchmarks cases, each in forked JVMs with results
+ * sunk into a Blackhole. Build and run with:
+ *   mvn -P jmh package
+ *   java -jar target/benchmarks.jar -prof gc
+ * -prof gc adds gc.alloc.rate.norm, the bytes allocated per operation.
+ * Demonstrates benchmarks that the JIT cannot optimise away or share state between.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GameBenchmarks {
+
+    /**
+     * Operations timed with their inputs and caches as they are after warm-up
+     */
+    @State(Scope.Thread)
+    public static class Warm {
+        @Param({"rules.checkWinner", "rules.checkWinnerLastMove", "rules.isDraw",
+                "computer.selectMove", "evaluator.evaluate", "game.smartVsComputer"})
+        String name;
+
+        Workload workload;
+        int index;
+
+        @Setup(Level.Trial)
+        public void create() {
+            workload = Workload.create(name);
+        }
+    }
+
+    /**
+     * The Smart Bot's search, with its shared transposition table emptied before
+     * every call. Without this, after warm-up nearly every call would be answered
+     * from the table and the benchmark would time table hits, not search.
+     */
+    @State(Scope.Thread)
+    public static class ColdSearch {
+        Workload workload;
+        int index;
+
+        @Setup(Level.Trial)
+        public void create() {
+            workload = Workload.create("smart.selectMove");
+        }
+
+        @Setup(Level.Invocation)
+        public void clearTable() {
+            workload.reset();
+        }
+    }
+
+    @Benchmark
+    public void operation(Warm state, Blackhole blackhole) {
+        blackhole.consume(state.workload.run(state.index++));
+    }
+
+    @Benchmark
+    public void smartSelectMoveColdTable(ColdSearch state, Blackhole blackhole) {
+        blackhole.consume(state.workload.run(state.index++));
+    }
+}
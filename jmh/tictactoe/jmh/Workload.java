@@ -0,0 +1,37 @@
+package tictactoe.jmh;
+
+/**
+ * One benchmarked operation, seen from the JMH benchmarks.
+ * JMH only accepts benchmarks in a named package, and a named package cannot
+ * refer to the game's classes in the default package, so the game code is
+ * reached through this interface. BenchmarkWorkloads, in the default package,
+ * implements it for each case. The call is monomorphic and inlined by the JIT.
+ */
+public interface Workload {
+    /**
+     * Runs the operation once
+     * @param index Invocation counter, used to cycle through prepared inputs
+     * @return A value derived from the work, for the Blackhole
+     */
+    long run(int index);
+
+    /**
+     * Restores any shared state the operation warms up, such as a search cache.
+     * Called outside the timed region before invocations that must start cold.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Creates a named workload through BenchmarkWorkloads
+     * @param name A name listed in BenchmarkWorkloads.create
+     * @return The workload, with its inputs prepared
+     */
+    static Workload create(String name) {
+        try {
+            return (Workload) Class.forName("BenchmarkWorkloads").getMethod("create", String.class).invoke(null, name);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create workload " + name, e);
+        }
+    }
+}